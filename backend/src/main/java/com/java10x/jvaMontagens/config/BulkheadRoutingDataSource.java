@@ -0,0 +1,23 @@
+package com.java10x.jvaMontagens.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Pool de relatorios dentro de ReportingBulkhead.call, pool de lancamentos no resto
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String OLTP = "oltp";
+    private static final String REPORTING = "reporting";
+
+    public BulkheadRoutingDataSource(DataSource oltp, DataSource reporting) {
+        setTargetDataSources(Map.of(OLTP, oltp, REPORTING, reporting));
+        setDefaultTargetDataSource(oltp);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReportingBulkhead.isActive() ? REPORTING : OLTP;
+    }
+}
@@ -0,0 +1,116 @@
+package com.java10x.jvaMontagens.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Primario com pools de lancamentos e de relatorios; transacoes readOnly vao para a replica, se configurada
+@Configuration
+public class DataSourceConfig {
+    private final boolean queryCountingEnabled;
+
+    public DataSourceConfig(@Value("${metrics.sql.enabled:true}") boolean queryCountingEnabled) {
+        this.queryCountingEnabled = queryCountingEnabled;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("reporting.datasource.hikari")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("reporting");
+        return dataSource;
+    }
+
+    @Bean
+    public BulkheadRoutingDataSource writeDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("reportingDataSource") DataSource reporting
+    ) {
+        return new BulkheadRoutingDataSource(primary, reporting);
+    }
+
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties primary,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(url)
+                .username(username.isBlank() ? primary.determineUsername() : username)
+                .password(password.isBlank() ? primary.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    public ReplicaRoutingDataSource readOnlyDataSource(
+            @Qualifier("writeDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag
+    ) {
+        return new ReplicaRoutingDataSource(primary, replica, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("writeDataSource") DataSource primary,
+            ObjectProvider<ReplicaRoutingDataSource> readOnlyDataSource
+    ) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        readOnlyDataSource.ifAvailable(proxy::setReadOnlyDataSource);
+        return queryCountingEnabled ? new QueryCountingDataSource(proxy) : proxy;
+    }
+
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<HikariDataSource> pools) {
+        return registry -> pools.forEach(pool -> Gauge.builder("bulkhead.connections.saturation", pool, DataSourceConfig::saturation)
+                .description("Active connections over the maximum pool size")
+                .tag("pool", pool.getPoolName())
+                .register(registry));
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean == null || pool.getMaximumPoolSize() <= 0) {
+            return 0.0;
+        }
+        return (double) bean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,105 @@
+package com.java10x.jvaMontagens.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+
+    // Fila cheia: a propria requisicao executa a tarefa
+    @Bean
+    public ThreadPoolTaskExecutor mediaProcessingExecutor(
+            @Value("${upload.processing-threads:4}") int threads,
+            @Value("${upload.processing-queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("media-processing-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QueryStats::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // Fila cheia descarta; a varredura periodica pega a midia PENDING depois
+    @Bean
+    public ThreadPoolTaskExecutor mediaMetadataExecutor(
+            @Value("${media.metadata.threads:2}") int threads,
+            @Value("${media.metadata.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("media-metadata-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Fila cheia: a leitura roda na thread da requisicao
+    @Bean
+    public ThreadPoolTaskExecutor batchReadExecutor(
+            @Value("${batch.read.threads:4}") int threads,
+            @Value("${batch.read.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-read-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QueryStats::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    // Sem caller-runs: fila cheia recusa o relatorio
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor(
+            @Value("${reporting.threads:4}") int threads,
+            @Value("${reporting.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("report-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(QueryStats::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    // Recalculo e envio SSE fora das threads do agendador
+    @Bean
+    public ThreadPoolTaskExecutor summaryPushExecutor(
+            @Value("${financial.summary-push.threads:2}") int threads,
+            @Value("${financial.summary-push.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("summary-push-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Executor async do MVC; exportacoes contam o SQL na requisicao que as iniciou
+    @Bean
+    public TaskDecorator queryStatsTaskDecorator() {
+        return QueryStats::propagate;
+    }
+}
@@ -0,0 +1,109 @@
+package com.java10x.jvaMontagens.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+// Conta comandos e linhas no QueryStats da requisicao atual
+public class QueryCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+    private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return statement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Object statement(Class<?> type, Statement target, String preparedSql) {
+        Class<?> statementType = CallableStatement.class.isAssignableFrom(type)
+                ? CallableStatement.class
+                : PreparedStatement.class.isAssignableFrom(type) ? PreparedStatement.class : Statement.class;
+        return proxy(statementType, target, (method, args) -> {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    stats.recordStatement(sql);
+                }
+            }
+            Object result = invoke(target, method, args);
+            if (result instanceof ResultSet resultSet && RESULT_SET_METHODS.contains(name)) {
+                return resultSet(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                        return invoke(target, method, args);
+                    }
+                    return handler.handle(method, args);
+                }
+        );
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
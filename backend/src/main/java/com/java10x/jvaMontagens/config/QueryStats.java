@@ -0,0 +1,97 @@
+package com.java10x.jvaMontagens.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// SQL por requisicao; propagate leva as estatisticas para os executores
+public final class QueryStats {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final int MAX_SHAPES = 50;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final Map<String, AtomicInteger> shapes = new ConcurrentHashMap<>();
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static QueryStats bind(QueryStats stats) {
+        QueryStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        return previous;
+    }
+
+    static void restore(QueryStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = bind(stats);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    void recordStatement(String sql) {
+        statements.incrementAndGet();
+        if (sql == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        AtomicInteger count = shapes.get(shape);
+        if (count == null && shapes.size() < MAX_SHAPES) {
+            count = shapes.computeIfAbsent(shape, ignored -> new AtomicInteger());
+        }
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    void recordRow() {
+        rows.incrementAndGet();
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long rows() {
+        return rows.get();
+    }
+
+    // O mesmo formato repetido numa requisicao costuma ser N+1
+    public List<Map.Entry<String, Integer>> topShapes(int limit) {
+        return shapes.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().get()))
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    // Literais ja chegam como '?'; listas IN de tamanhos diferentes contam como a mesma consulta
+    private static String shapeOf(String sql) {
+        String shape = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
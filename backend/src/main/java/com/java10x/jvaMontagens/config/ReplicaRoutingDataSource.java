@@ -0,0 +1,88 @@
+package com.java10x.jvaMontagens.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Replica enquanto responde e esta perto do primario; o lag e medido por agendamento
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // Null quando nao e standby ou o WAL receiver nao transmite; ler o receiver exige pg_read_all_stats
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() then null
+                when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null
+                when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else extract(epoch from now() - pg_last_xact_replay_timestamp())
+            end
+            """;
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    // Para leituras que precisam ver um commit recente
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (Boolean.TRUE.equals(FORCE_PRIMARY.get()) || !replicaUsable) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void checkReplicaLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                if (!result.next()) {
+                    replicaUsable = false;
+                    return;
+                }
+                double lagSeconds = result.getDouble(1);
+                replicaUsable = !result.wasNull() && lagSeconds <= maxLagSeconds;
+            }
+        } catch (SQLException ex) {
+            replicaUsable = false;
+        }
+    }
+}
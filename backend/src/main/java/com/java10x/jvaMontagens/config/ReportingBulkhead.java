@@ -0,0 +1,105 @@
+package com.java10x.jvaMontagens.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Relatorios usam pool e executor proprios; executor cheio recusa com Retry-After
+@Component
+public class ReportingBulkhead {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private final ThreadPoolTaskExecutor reportExecutor;
+    private final long retryAfterSeconds;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public ReportingBulkhead(
+            @Qualifier("reportExecutor") ThreadPoolTaskExecutor reportExecutor,
+            @Value("${reporting.retry-after-seconds:5}") long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.reportExecutor = reportExecutor;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time reports waited for a reporting thread")
+                .tag("bulkhead", "reporting")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Reports refused because the reporting executor was full")
+                .tag("bulkhead", "reporting")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.executor.saturation", this, ReportingBulkhead::executorSaturation)
+                .description("Busy threads plus queued reports over threads plus queue capacity")
+                .tag("bulkhead", "reporting")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> report) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return call(report);
+            }, reportExecutor);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ReportingBusyException("Reporting capacity exhausted.", retryAfterSeconds);
+        }
+    }
+
+    public static <T> T call(Supplier<T> report) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return report.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    public static void run(Runnable report) {
+        call(() -> {
+            report.run();
+            return null;
+        });
+    }
+
+    public static StreamingResponseBody streaming(StreamingResponseBody body) {
+        return outputStream -> {
+            Boolean previous = ACTIVE.get();
+            ACTIVE.set(Boolean.TRUE);
+            try {
+                body.writeTo(outputStream);
+            } finally {
+                if (previous == null) {
+                    ACTIVE.remove();
+                }
+            }
+        };
+    }
+
+    static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    private double executorSaturation() {
+        int capacity = reportExecutor.getMaxPoolSize() + reportExecutor.getQueueCapacity();
+        int used = reportExecutor.getActiveCount() + reportExecutor.getQueueSize();
+        return capacity == 0 ? 0.0 : (double) used / capacity;
+    }
+}
@@ -0,0 +1,14 @@
+package com.java10x.jvaMontagens.config;
+
+public class ReportingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ReportingBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,115 @@
+package com.java10x.jvaMontagens.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+// SQL e linhas por endpoint; requisicoes acima do orcamento vao para o log
+@Component
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestQueryMetricsFilter.class);
+    private static final int LOGGED_SHAPES = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public RequestQueryMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.sql.statement-budget:20}") int statementBudget
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryStats stats = new QueryStats();
+        QueryStats previous = QueryStats.bind(stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.restore(previous);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response, stats);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, response, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryStats stats) {
+        String uri = endpointOf(request);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("Rows fetched per request")
+                .baseUnit("rows")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.rows());
+
+        if (stats.statements() > statementBudget) {
+            String shapes = stats.topShapes(LOGGED_SHAPES).stream()
+                    .map(shape -> shape.getValue() + "x " + shape.getKey())
+                    .collect(Collectors.joining("\n  ", "\n  ", ""));
+            log.warn(
+                    "{} {} ran {} SQL statements (budget {}), {} rows, status {}. Most repeated:{}",
+                    request.getMethod(),
+                    uri,
+                    stats.statements(),
+                    statementBudget,
+                    stats.rows(),
+                    response.getStatus(),
+                    shapes
+            );
+        }
+    }
+
+    // Padrao da rota ("/financial/periods/{periodId}") para nao criar uma serie por id
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
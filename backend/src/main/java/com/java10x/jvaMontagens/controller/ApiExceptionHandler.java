@@ -1,5 +1,8 @@
 package com.java10x.jvaMontagens.controller;
 
+import com.java10x.jvaMontagens.config.ReportingBusyException;
+import com.java10x.jvaMontagens.security.LoginThrottledException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -32,6 +35,20 @@ public class ApiExceptionHandler {
                 .body(Map.of("message", "Formato de dados invalido na requisicao."));
     }
 
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Map<String, String>> handleLoginThrottled(LoginThrottledException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("message", "Muitas tentativas de login. Aguarde alguns instantes e tente novamente."));
+    }
+
+    @ExceptionHandler(ReportingBusyException.class)
+    public ResponseEntity<Map<String, String>> handleReportingBusy(ReportingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("message", "Muitos relatorios em processamento. Tente novamente em instantes."));
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException ex) {
         String reason = ex.getReason() == null || ex.getReason().isBlank()
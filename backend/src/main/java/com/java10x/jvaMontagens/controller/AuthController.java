@@ -2,6 +2,7 @@ package com.java10x.jvaMontagens.controller;
 
 import com.java10x.jvaMontagens.security.SecurityFilter;
 import com.java10x.jvaMontagens.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -19,9 +20,12 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public AuthService.LoginResponse login(@RequestBody AuthService.LoginRequest request) {
+    public AuthService.LoginResponse login(
+            @RequestBody AuthService.LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
         try {
-            return authService.login(request);
+            return authService.login(request, httpRequest.getRemoteAddr());
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
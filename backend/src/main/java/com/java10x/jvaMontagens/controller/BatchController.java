@@ -0,0 +1,42 @@
+package com.java10x.jvaMontagens.controller;
+
+import com.java10x.jvaMontagens.security.SecurityFilter;
+import com.java10x.jvaMontagens.service.BatchReadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+    private final BatchReadService batchReadService;
+
+    public BatchController(BatchReadService batchReadService) {
+        this.batchReadService = batchReadService;
+    }
+
+    @PostMapping
+    public Map<String, BatchReadService.ReadResult> read(
+            @RequestBody Map<String, BatchReadService.ReadRequest> reads,
+            Authentication authentication
+    ) {
+        String adminCpf;
+        try {
+            adminCpf = ((SecurityFilter.AdminPrincipal) authentication.getPrincipal()).cpf();
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication not found.");
+        }
+
+        try {
+            return batchReadService.readAll(reads, adminCpf);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.java10x.jvaMontagens.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+final class BinaryResponses {
+    // Midia nunca muda para o mesmo id; comprovantes podem ser substituidos e precisam revalidar.
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    static final MediaType ZIP = MediaType.parseMediaType("application/zip");
+
+    private BinaryResponses() {
+    }
+
+    static boolean matchesETag(String ifNoneMatch, String contentHash) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || contentHash == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(quote(contentHash))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String contentHash, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(quote(contentHash))
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    static ResponseEntity<byte[]> attachment(
+            String fileName,
+            String contentType,
+            byte[] data,
+            String contentHash,
+            CacheControl cacheControl
+    ) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(fileName))
+                .contentType(MediaType.parseMediaType(contentType))
+                .contentLength(data.length)
+                .eTag(quote(contentHash))
+                .cacheControl(cacheControl)
+                .body(data);
+    }
+
+    static String contentDisposition(String fileName) {
+        String safeFileName = fileName.replace("\"", "");
+        return "attachment; filename=\"" + safeFileName + "\"";
+    }
+
+    private static String quote(String contentHash) {
+        return "\"" + contentHash + "\"";
+    }
+}
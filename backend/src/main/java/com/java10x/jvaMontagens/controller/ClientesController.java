@@ -2,11 +2,11 @@ package com.java10x.jvaMontagens.controller;
 
 import com.java10x.jvaMontagens.model.ClientModel;
 import com.java10x.jvaMontagens.service.ClientService;
+import com.java10x.jvaMontagens.service.CursorPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @RestController
@@ -20,14 +20,14 @@ public class ClientesController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ClientModel createClient(@RequestBody CreateClientRequest request) {
+    public ClientService.ClientItem createClient(@RequestBody CreateClientRequest request) {
         try {
             ClientModel client = new ClientModel();
             client.setCnpj(request.cnpj());
             client.setName(request.name());
             client.setContactPhone(request.contactPhone());
             client.setEmail(request.email());
-            return clientService.createClient(client);
+            return ClientService.ClientItem.from(clientService.createClient(client));
         } catch (IllegalArgumentException ex) {
             if (ex.getMessage() != null && ex.getMessage().contains("already exists")) {
                 throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
@@ -37,14 +37,21 @@ public class ClientesController {
     }
 
     @GetMapping
-    public List<ClientModel> listClients() {
-        return clientService.listClients();
+    public CursorPage<ClientService.ClientItem> listClients(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        try {
+            return clientService.listClients(limit, cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
     }
 
     @GetMapping("/{cnpj}")
-    public ClientModel getByCnpj(@PathVariable String cnpj) {
+    public ClientService.ClientItem getByCnpj(@PathVariable String cnpj) {
         try {
-            return clientService.getByCnpj(cnpj);
+            return ClientService.ClientItem.from(clientService.getByCnpj(cnpj));
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -53,13 +60,13 @@ public class ClientesController {
     }
 
     @PutMapping("/{cnpj}")
-    public ClientModel updateClient(@PathVariable String cnpj, @RequestBody CreateClientRequest request) {
+    public ClientService.ClientItem updateClient(@PathVariable String cnpj, @RequestBody CreateClientRequest request) {
         try {
             ClientModel updates = new ClientModel();
             updates.setName(request.name());
             updates.setContactPhone(request.contactPhone());
             updates.setEmail(request.email());
-            return clientService.updateClient(cnpj, updates);
+            return ClientService.ClientItem.from(clientService.updateClient(cnpj, updates));
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
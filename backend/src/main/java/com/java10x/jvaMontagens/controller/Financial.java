@@ -1,7 +1,11 @@
 package com.java10x.jvaMontagens.controller;
 
+import com.java10x.jvaMontagens.config.ReportingBulkhead;
 import com.java10x.jvaMontagens.model.*;
+import com.java10x.jvaMontagens.service.CursorPage;
 import com.java10x.jvaMontagens.service.FinancialService;
+import com.java10x.jvaMontagens.service.SummaryPushService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,20 +13,35 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/financial")
 public class Financial {
     private final FinancialService financialService;
+    private final ObjectMapper objectMapper;
+    private final SummaryPushService summaryPushService;
+    private final ReportingBulkhead reportingBulkhead;
 
-    public Financial(FinancialService financialService) {
+    public Financial(
+            FinancialService financialService,
+            ObjectMapper objectMapper,
+            SummaryPushService summaryPushService,
+            ReportingBulkhead reportingBulkhead
+    ) {
         this.financialService = financialService;
+        this.objectMapper = objectMapper;
+        this.summaryPushService = summaryPushService;
+        this.reportingBulkhead = reportingBulkhead;
     }
 
     @GetMapping("/status")
@@ -32,7 +51,7 @@ public class Financial {
 
     @PostMapping("/periods")
     @ResponseStatus(HttpStatus.CREATED)
-    public FinancialModel createPeriod(@RequestBody CreateFinancialPeriodRequest request) {
+    public FinancialService.PeriodItem createPeriod(@RequestBody CreateFinancialPeriodRequest request) {
         try {
             return financialService.createFinancialPeriod(
                     new FinancialService.CreateFinancialPeriodInput(
@@ -58,21 +77,33 @@ public class Financial {
     }
 
     @GetMapping("/periods")
-    public List<FinancialModel> listPeriods(@RequestParam(required = false) Long parkId) {
-        return financialService.listPeriods(parkId);
+    public CursorPage<FinancialService.PeriodItem> listPeriods(
+            @RequestParam(required = false) Long parkId,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) FinancialStatus status,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        try {
+            return financialService.listPeriods(
+                    new FinancialService.PeriodListQuery(parkId, year, status, limit, cursor)
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
     }
 
     @GetMapping("/periods/{periodId}")
-    public FinancialModel getPeriod(@PathVariable Long periodId) {
+    public FinancialService.PeriodItem getPeriod(@PathVariable Long periodId) {
         try {
-            return financialService.getPeriod(periodId);
+            return financialService.getPeriodItem(periodId);
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @PutMapping("/periods/{periodId}")
-    public FinancialModel updatePeriod(@PathVariable Long periodId, @RequestBody UpdateFinancialPeriodRequest request) {
+    public FinancialService.PeriodItem updatePeriod(@PathVariable Long periodId, @RequestBody UpdateFinancialPeriodRequest request) {
         try {
             return financialService.updatePeriod(periodId, new FinancialService.UpdateFinancialPeriodInput(
                     request.jvaPricePerMeter(),
@@ -99,16 +130,22 @@ public class Financial {
     }
 
     @GetMapping("/periods/{periodId}/services")
-    public List<ServiceEntryModel> listServices(@PathVariable Long periodId) {
+    public CursorPage<FinancialService.ServiceEntryItem> listServices(
+            @PathVariable Long periodId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
         try {
-            return financialService.listServiceEntries(periodId);
+            return financialService.listServiceEntries(periodId, limit, cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @PutMapping("/services/{serviceId}")
-    public ServiceEntryModel updateService(@PathVariable Long serviceId, @RequestBody UpdateServiceEntryRequest request) {
+    public FinancialService.ServiceEntryItem updateService(@PathVariable Long serviceId, @RequestBody UpdateServiceEntryRequest request) {
         try {
             return financialService.updateServiceEntry(serviceId, new FinancialService.UpdateServiceEntryInput(
                     request.serviceType(),
@@ -141,7 +178,7 @@ public class Financial {
 
     @PostMapping("/periods/{periodId}/services")
     @ResponseStatus(HttpStatus.CREATED)
-    public ServiceEntryModel addService(
+    public FinancialService.ServiceEntryItem addService(
             @PathVariable Long periodId,
             @RequestBody CreateServiceEntryRequest request
     ) {
@@ -181,16 +218,28 @@ public class Financial {
     }
 
     @GetMapping("/periods/{periodId}/payments")
-    public List<PaymentEntryModel> listPayments(@PathVariable Long periodId) {
+    public CursorPage<FinancialService.PaymentEntryItem> listPayments(
+            @PathVariable Long periodId,
+            @RequestParam(required = false) PaymentCategory category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
         try {
-            return financialService.listPaymentEntries(periodId);
+            return financialService.listPaymentEntries(
+                    periodId,
+                    new FinancialService.PaymentListQuery(category, paidFrom, paidTo, limit, cursor)
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @PutMapping("/payments/{paymentId}")
-    public PaymentEntryModel updatePayment(@PathVariable Long paymentId, @RequestBody UpdatePaymentEntryRequest request) {
+    public FinancialService.PaymentEntryItem updatePayment(@PathVariable Long paymentId, @RequestBody UpdatePaymentEntryRequest request) {
         try {
             return financialService.updatePaymentEntry(paymentId, new FinancialService.UpdatePaymentEntryInput(
                     request.paymentDate(),
@@ -220,7 +269,7 @@ public class Financial {
     }
 
     @PostMapping(value = "/payments/{paymentId}/receipt", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public PaymentEntryModel uploadPaymentReceipt(@PathVariable Long paymentId, @RequestPart("file") MultipartFile file) {
+    public FinancialService.PaymentEntryItem uploadPaymentReceipt(@PathVariable Long paymentId, @RequestPart("file") MultipartFile file) {
         try {
             return financialService.uploadPaymentReceipt(
                     paymentId,
@@ -238,15 +287,27 @@ public class Financial {
     }
 
     @GetMapping("/payments/{paymentId}/receipt")
-    public ResponseEntity<byte[]> downloadPaymentReceipt(@PathVariable Long paymentId) {
+    public ResponseEntity<byte[]> downloadPaymentReceipt(
+            @PathVariable Long paymentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
+            String knownHash = financialService.findPaymentReceiptHash(paymentId);
+            if (BinaryResponses.matchesETag(ifNoneMatch, knownHash)) {
+                return BinaryResponses.notModified(knownHash, BinaryResponses.REVALIDATE);
+            }
+
             FinancialService.PaymentReceiptFile file = financialService.getPaymentReceipt(paymentId);
-            String safeFileName = file.fileName().replace("\"", "");
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + safeFileName + "\"")
-                    .contentType(MediaType.parseMediaType(file.contentType()))
-                    .contentLength(file.data().length)
-                    .body(file.data());
+            if (BinaryResponses.matchesETag(ifNoneMatch, file.contentHash())) {
+                return BinaryResponses.notModified(file.contentHash(), BinaryResponses.REVALIDATE);
+            }
+            return BinaryResponses.attachment(
+                    file.fileName(),
+                    file.contentType(),
+                    file.data(),
+                    file.contentHash(),
+                    BinaryResponses.REVALIDATE
+            );
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -254,9 +315,26 @@ public class Financial {
         }
     }
 
+    @GetMapping("/periods/{periodId}/receipts/archive")
+    public ResponseEntity<StreamingResponseBody> downloadReceiptArchive(@PathVariable Long periodId) {
+        try {
+            FinancialService.ReceiptArchive archive =
+                    ReportingBulkhead.call(() -> financialService.prepareReceiptArchive(periodId));
+            StreamingResponseBody body = ReportingBulkhead.streaming(
+                    outputStream -> financialService.writeReceiptArchive(archive, outputStream)
+            );
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, BinaryResponses.contentDisposition(archive.fileName()))
+                    .contentType(BinaryResponses.ZIP)
+                    .body(body);
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
     @PostMapping("/periods/{periodId}/payments")
     @ResponseStatus(HttpStatus.CREATED)
-    public PaymentEntryModel addPayment(
+    public FinancialService.PaymentEntryItem addPayment(
             @PathVariable Long periodId,
             @RequestBody CreatePaymentEntryRequest request
     ) {
@@ -282,32 +360,78 @@ public class Financial {
     }
 
     @GetMapping("/periods/{periodId}/summary")
-    public FinancialService.FinancialSummary summary(@PathVariable Long periodId) {
+    public CompletableFuture<FinancialService.FinancialSummary> summary(@PathVariable Long periodId) {
+        return reportingBulkhead.submit(() -> {
+            try {
+                return financialService.calculateSummary(periodId);
+            } catch (NoSuchElementException ex) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+            }
+        });
+    }
+
+    @GetMapping(value = "/periods/{periodId}/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummary(@PathVariable Long periodId) {
         try {
-            return financialService.calculateSummary(periodId);
+            return summaryPushService.subscribePeriod(periodId);
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
-    @GetMapping("/parks/{parkId}/overview")
-    public FinancialService.ParkFinancialOverview parkOverview(@PathVariable Long parkId) {
+    @GetMapping(value = "/parks/{parkId}/summaries/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamParkSummaries(@PathVariable Long parkId) {
         try {
-            return financialService.calculateParkOverview(parkId);
+            return summaryPushService.subscribePark(parkId);
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
-    @GetMapping("/car-rentals/summary")
-    public FinancialService.CarRentalSummary carRentalSummary(@RequestParam(required = false) Long parkId) {
+    @GetMapping("/parks/{parkId}/overview")
+    public CompletableFuture<FinancialService.ParkFinancialOverview> parkOverview(@PathVariable Long parkId) {
+        return reportingBulkhead.submit(() -> {
+            try {
+                return financialService.calculateParkOverview(parkId);
+            } catch (NoSuchElementException ex) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+            }
+        });
+    }
+
+    @GetMapping("/parks/{parkId}/ledger")
+    public ResponseEntity<StreamingResponseBody> parkLedger(
+            @PathVariable Long parkId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo
+    ) {
         try {
-            return financialService.summarizeCarRental(parkId);
+            FinancialService.ParkLedger ledger =
+                    ReportingBulkhead.call(() -> financialService.prepareParkLedger(parkId, paidFrom, paidTo));
+            return JsonStreams.<FinancialService.LedgerEntry>array(
+                    objectMapper,
+                    sink -> ReportingBulkhead.run(() -> financialService.writeParkLedger(ledger, sink))
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
+    @GetMapping("/car-rentals/summary")
+    public CompletableFuture<FinancialService.CarRentalSummary> carRentalSummary(
+            @RequestParam(required = false) Long parkId
+    ) {
+        return reportingBulkhead.submit(() -> {
+            try {
+                return financialService.summarizeCarRental(parkId);
+            } catch (NoSuchElementException ex) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+            }
+        });
+    }
+
     public record CreateFinancialPeriodRequest(
             Long parkId,
             Integer year,
@@ -2,13 +2,13 @@ package com.java10x.jvaMontagens.controller;
 
 import com.java10x.jvaMontagens.model.FuncionariosModel;
 import com.java10x.jvaMontagens.model.JobRole;
+import com.java10x.jvaMontagens.service.CursorPage;
 import com.java10x.jvaMontagens.service.FuncionariosService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @RestController
@@ -22,7 +22,7 @@ public class FuncionariosController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public FuncionariosModel create(@RequestBody CreateFuncionarioRequest request) {
+    public FuncionariosService.EmployeeItem create(@RequestBody CreateFuncionarioRequest request) {
         try {
             FuncionariosModel funcionario = new FuncionariosModel();
             funcionario.setName(request.name());
@@ -34,7 +34,7 @@ public class FuncionariosController {
             funcionario.setDailyRate(request.dailyRate());
             funcionario.setPricePerMeter(request.pricePerMeter());
             funcionario.setActive(request.active() == null || request.active());
-            return funcionariosService.createFuncionario(funcionario);
+            return FuncionariosService.EmployeeItem.from(funcionariosService.createFuncionario(funcionario));
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -43,27 +43,33 @@ public class FuncionariosController {
     }
 
     @GetMapping
-    public List<FuncionariosModel> list(
+    public CursorPage<FuncionariosService.EmployeeItem> list(
             @RequestParam(required = false) JobRole role,
-            @RequestParam(required = false) Boolean onlyActive
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Boolean onlyActive,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
     ) {
-        if (role != null) {
-            return funcionariosService.listByRole(role, onlyActive);
+        // onlyActive=true continua aceito como atalho para active=true
+        Boolean activeFilter = active != null ? active : (Boolean.TRUE.equals(onlyActive) ? Boolean.TRUE : null);
+        try {
+            return funcionariosService.listFuncionarios(role, activeFilter, limit, cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         }
-        return funcionariosService.listAll(onlyActive);
     }
 
     @GetMapping("/{id}")
-    public FuncionariosModel getById(@PathVariable Long id) {
+    public FuncionariosService.EmployeeItem getById(@PathVariable Long id) {
         try {
-            return funcionariosService.getById(id);
+            return FuncionariosService.EmployeeItem.from(funcionariosService.getById(id));
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @PutMapping("/{id}")
-    public FuncionariosModel update(@PathVariable Long id, @RequestBody UpdateFuncionarioRequest request) {
+    public FuncionariosService.EmployeeItem update(@PathVariable Long id, @RequestBody UpdateFuncionarioRequest request) {
         try {
             FuncionariosModel updates = new FuncionariosModel();
             updates.setName(request.name());
@@ -75,7 +81,7 @@ public class FuncionariosController {
             updates.setDailyRate(request.dailyRate());
             updates.setPricePerMeter(request.pricePerMeter());
             updates.setActive(request.active());
-            return funcionariosService.updateFuncionario(id, updates);
+            return FuncionariosService.EmployeeItem.from(funcionariosService.updateFuncionario(id, updates));
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
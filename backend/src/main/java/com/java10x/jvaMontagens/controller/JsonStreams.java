@@ -0,0 +1,28 @@
+package com.java10x.jvaMontagens.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.function.Consumer;
+
+final class JsonStreams {
+    private JsonStreams() {
+    }
+
+    // O status sai com o primeiro byte: erros 4xx precisam ser checados antes
+    static <T> ResponseEntity<StreamingResponseBody> array(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                producer.accept(generator::writePOJO);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -1,7 +1,10 @@
 package com.java10x.jvaMontagens.controller;
 
+import com.java10x.jvaMontagens.config.ReportingBulkhead;
 import com.java10x.jvaMontagens.model.ParkModel;
+import com.java10x.jvaMontagens.service.CursorPage;
 import com.java10x.jvaMontagens.service.ParkService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,7 +12,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -17,20 +24,22 @@ import java.util.NoSuchElementException;
 @RequestMapping("/parks")
 public class ParkController {
     private final ParkService parkService;
+    private final ObjectMapper objectMapper;
 
-    public ParkController(ParkService parkService) {
+    public ParkController(ParkService parkService, ObjectMapper objectMapper) {
         this.parkService = parkService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ParkModel createPark(@RequestBody CreateParkRequest request) {
+    public ParkService.ParkItem createPark(@RequestBody CreateParkRequest request) {
         try {
             ParkModel park = new ParkModel();
             park.setName(request.name());
             park.setCity(request.city());
             park.setState(request.state());
-            return parkService.createPark(park, request.clientCnpj());
+            return ParkService.ParkItem.from(parkService.createPark(park, request.clientCnpj()));
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -39,18 +48,24 @@ public class ParkController {
     }
 
     @GetMapping
-    public List<ParkModel> listParks(@RequestParam(required = false) String clientCnpj) {
+    public CursorPage<ParkService.ParkItem> listParks(
+            @RequestParam(required = false) String clientCnpj,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
         try {
-            return parkService.listParks(clientCnpj);
+            return parkService.listParks(clientCnpj, limit, cursor);
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         }
     }
 
     @PutMapping("/{parkId}")
-    public ParkModel updatePark(@PathVariable Long parkId, @RequestBody CreateParkRequest request) {
+    public ParkService.ParkItem updatePark(@PathVariable Long parkId, @RequestBody CreateParkRequest request) {
         try {
-            return parkService.updatePark(parkId, request.name(), request.city(), request.state(), request.clientCnpj());
+            return ParkService.ParkItem.from(
+                    parkService.updatePark(parkId, request.name(), request.city(), request.state(), request.clientCnpj())
+            );
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -69,39 +84,157 @@ public class ParkController {
     }
 
     @GetMapping("/{parkId}/media")
-    public List<ParkService.ParkMediaItem> listParkMedia(@PathVariable Long parkId) {
+    public ResponseEntity<StreamingResponseBody> listParkMedia(
+            @PathVariable Long parkId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate capturedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate capturedTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order
+    ) {
         try {
-            return parkService.listParkMedia(parkId);
+            ParkService.ParkMediaListing listing = parkService.prepareParkMediaListing(
+                    parkId,
+                    new ParkService.MediaListQuery(type, capturedFrom, capturedTo, sort, order)
+            );
+            return JsonStreams.<ParkService.ParkMediaItem>array(
+                    objectMapper,
+                    sink -> parkService.writeParkMediaListing(listing, sink)
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @PostMapping(value = "/{parkId}/media", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    public List<ParkService.ParkMediaItem> uploadParkMedia(
+    public ResponseEntity<List<ParkService.MediaUploadResult>> uploadParkMedia(
             @PathVariable Long parkId,
             @RequestPart("files") List<MultipartFile> files
     ) {
         try {
-            return parkService.uploadParkMedia(parkId, files);
+            List<ParkService.MediaUploadResult> results = parkService.uploadParkMedia(parkId, files);
+            // Nenhum arquivo gravado: 400 com o motivo de cada um
+            boolean anyUploaded = results.stream().anyMatch(ParkService.MediaUploadResult::uploaded);
+            return ResponseEntity.status(anyUploaded ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST).body(results);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @PostMapping("/{parkId}/media/uploads")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ParkService.MediaUploadStatus createMediaUpload(
+            @PathVariable Long parkId,
+            @RequestBody CreateMediaUploadRequest request
+    ) {
+        try {
+            return parkService.createMediaUpload(parkId, new ParkService.CreateMediaUploadInput(
+                    request.fileName(),
+                    request.contentType(),
+                    request.totalSize()
+            ));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @GetMapping("/media/uploads/{uploadId}")
+    public ParkService.MediaUploadStatus getMediaUpload(@PathVariable String uploadId) {
+        try {
+            return parkService.getMediaUpload(uploadId);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @PutMapping(value = "/media/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ParkService.MediaUploadStatus uploadMediaChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            InputStream body
+    ) {
+        try {
+            return parkService.appendMediaUploadChunk(uploadId, offset, body);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @PostMapping("/media/uploads/{uploadId}/complete")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ParkService.ParkMediaItem completeMediaUpload(@PathVariable String uploadId) {
+        try {
+            return parkService.completeMediaUpload(uploadId);
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @DeleteMapping("/media/uploads/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelMediaUpload(@PathVariable String uploadId) {
+        try {
+            parkService.cancelMediaUpload(uploadId);
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @GetMapping("/{parkId}/media/archive")
+    public ResponseEntity<StreamingResponseBody> downloadParkMediaArchive(@PathVariable Long parkId) {
+        try {
+            ParkService.ParkMediaArchive archive =
+                    ReportingBulkhead.call(() -> parkService.prepareParkMediaArchive(parkId));
+            StreamingResponseBody body = ReportingBulkhead.streaming(
+                    outputStream -> parkService.writeParkMediaArchive(archive, outputStream)
+            );
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, BinaryResponses.contentDisposition(archive.fileName()))
+                    .contentType(BinaryResponses.ZIP)
+                    .body(body);
         } catch (NoSuchElementException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     @GetMapping("/media/{mediaId}/download")
-    public ResponseEntity<byte[]> downloadParkMedia(@PathVariable Long mediaId) {
+    public ResponseEntity<byte[]> downloadParkMedia(
+            @PathVariable Long mediaId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
+            String knownHash = parkService.findParkMediaContentHash(mediaId);
+            if (BinaryResponses.matchesETag(ifNoneMatch, knownHash)) {
+                return BinaryResponses.notModified(knownHash, BinaryResponses.IMMUTABLE);
+            }
+
             ParkService.ParkMediaFile file = parkService.downloadParkMedia(mediaId);
-            String safeFileName = file.fileName().replace("\"", "");
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + safeFileName + "\"")
-                    .contentType(MediaType.parseMediaType(file.contentType()))
-                    .contentLength(file.data().length)
-                    .body(file.data());
+            if (BinaryResponses.matchesETag(ifNoneMatch, file.contentHash())) {
+                return BinaryResponses.notModified(file.contentHash(), BinaryResponses.IMMUTABLE);
+            }
+            return BinaryResponses.attachment(
+                    file.fileName(),
+                    file.contentType(),
+                    file.data(),
+                    file.contentHash(),
+                    BinaryResponses.IMMUTABLE
+            );
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
         } catch (NoSuchElementException ex) {
@@ -119,6 +252,12 @@ public class ParkController {
         }
     }
 
+    public record CreateMediaUploadRequest(
+            String fileName,
+            String contentType,
+            Long totalSize
+    ) {}
+
     public record CreateParkRequest(
             String name,
             String city,
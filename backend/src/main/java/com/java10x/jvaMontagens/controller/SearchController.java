@@ -0,0 +1,35 @@
+package com.java10x.jvaMontagens.controller;
+
+import com.java10x.jvaMontagens.service.SearchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public List<SearchService.SearchHit> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<SearchService.SearchResultType> types,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return searchService.search(q, types, limit);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.java10x.jvaMontagens.controller;
+
+import com.java10x.jvaMontagens.service.StorageUsageService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/storage-usage")
+public class StorageUsageController {
+    private final StorageUsageService storageUsageService;
+
+    public StorageUsageController(StorageUsageService storageUsageService) {
+        this.storageUsageService = storageUsageService;
+    }
+
+    @GetMapping
+    public List<StorageUsageService.ClientStorageUsage> listUsage() {
+        return storageUsageService.listUsage();
+    }
+
+    @GetMapping("/clients/{cnpj}")
+    public StorageUsageService.ClientStorageUsage getClientUsage(@PathVariable String cnpj) {
+        try {
+            return storageUsageService.getClientUsage(cnpj);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    @GetMapping("/parks/{parkId}")
+    public StorageUsageService.ParkStorageUsage getParkUsage(@PathVariable Long parkId) {
+        try {
+            return storageUsageService.getParkUsage(parkId);
+        } catch (NoSuchElementException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+}
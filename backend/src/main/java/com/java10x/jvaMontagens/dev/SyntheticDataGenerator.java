@@ -0,0 +1,699 @@
+package com.java10x.jvaMontagens.dev;
+
+import com.java10x.jvaMontagens.model.FinancialStatus;
+import com.java10x.jvaMontagens.model.JobRole;
+import com.java10x.jvaMontagens.model.MediaMetadataStatus;
+import com.java10x.jvaMontagens.model.PaymentCategory;
+import com.java10x.jvaMontagens.model.ServiceType;
+import com.java10x.jvaMontagens.service.FileHashUtils;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Mesmas settings num banco vazio geram sempre as mesmas linhas
+public class SyntheticDataGenerator {
+    private static final String[] PARK_NAMES = {
+            "Parque Central", "Expo Norte", "Centro de Eventos", "Pavilhao Sul", "Arena Leste",
+            "Parque das Aguas", "Expo Rural", "Pavilhao de Feiras", "Centro de Convencoes", "Parque Oeste"
+    };
+    private static final String[][] CITIES = {
+            {"Sao Paulo", "SP"}, {"Campinas", "SP"}, {"Curitiba", "PR"}, {"Belo Horizonte", "MG"},
+            {"Goiania", "GO"}, {"Porto Alegre", "RS"}, {"Florianopolis", "SC"}, {"Ribeirao Preto", "SP"}
+    };
+    private static final String[] FIRST_NAMES = {
+            "Joao", "Maria", "Jose", "Ana", "Carlos", "Paula", "Marcos", "Fernanda", "Luiz", "Juliana",
+            "Pedro", "Camila", "Rafael", "Beatriz", "Lucas", "Aline"
+    };
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Pereira", "Lima", "Costa", "Almeida", "Ferreira", "Rocha"
+    };
+    private static final String[] TEAM_TYPES = {"UNSPECIFIED", "OWN_TEAM", "MIXED_TEAM"};
+    private static final String[] MEDIA_TYPES = {"image/jpeg", "image/png", "video/mp4"};
+    private static final String[] RECEIPT_TYPES = {"application/pdf", "image/jpeg", "image/png"};
+
+    private final DataSource dataSource;
+
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public Result generate(Settings settings) throws SQLException {
+        Random random = new Random(settings.seed());
+        // Documentos partem de um bloco derivado da seed; seeds diferentes nao colidem
+        long documentBase = Math.floorMod(settings.seed(), 100_000L) * 100_000L;
+        Counts counts = new Counts();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                Staff staff = insertStaff(connection, settings, random, documentBase, counts);
+                List<String> clientCnpjs = insertClients(connection, settings, random, documentBase, counts);
+                connection.commit();
+
+                for (String clientCnpj : clientCnpjs) {
+                    for (long parkId : insertParks(connection, settings, random, clientCnpj, counts)) {
+                        fillPark(connection, settings, random, staff, clientCnpj, parkId, counts);
+                        connection.commit();
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return counts.toResult();
+    }
+
+    private Staff insertStaff(
+            Connection connection,
+            Settings settings,
+            Random random,
+            long documentBase,
+            Counts counts
+    ) throws SQLException {
+        String userSql = "insert into users (cpf, full_name, email, password) values (?, ?, ?, ?)";
+        String employeeSql = "insert into funcionarios "
+                + "(name, cpf, pix_key, role, active, daily_rate, price_per_meter, user_cpf) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<String> adminCpfs = new ArrayList<>();
+        try (Batch users = new Batch(connection, userSql, false, settings.batchSize())) {
+            for (int i = 0; i < settings.admins(); i++) {
+                int index = i;
+                String cpf = document(documentBase + i, 11);
+                String fullName = personName(random);
+                users.add(statement -> {
+                    statement.setString(1, cpf);
+                    statement.setString(2, fullName);
+                    statement.setString(3, adminEmail(settings.seed(), index));
+                    statement.setString(4, settings.adminPasswordHash());
+                });
+                adminCpfs.add(cpf);
+            }
+        }
+
+        Staff staff = new Staff();
+        try (Batch employees = new Batch(connection, employeeSql, true, settings.batchSize())) {
+            for (String cpf : adminCpfs) {
+                addEmployee(employees, random, cpf, JobRole.ADMINISTRATOR, cpf);
+            }
+            staff.admins.addAll(employees.flush());
+            for (int i = 0; i < settings.leaders(); i++) {
+                addEmployee(employees, random, document(documentBase + settings.admins() + i, 11), JobRole.LEADER, null);
+            }
+            staff.leaders.addAll(employees.flush());
+            for (int i = 0; i < settings.assemblers(); i++) {
+                String cpf = document(documentBase + settings.admins() + settings.leaders() + i, 11);
+                addEmployee(employees, random, cpf, JobRole.ASSEMBLER, null);
+            }
+            staff.assemblers.addAll(employees.flush());
+        }
+        counts.employees += staff.admins.size() + staff.leaders.size() + staff.assemblers.size();
+        return staff;
+    }
+
+    private void addEmployee(Batch employees, Random random, String cpf, JobRole role, String userCpf) throws SQLException {
+        String name = personName(random);
+        BigDecimal dailyRate = role == JobRole.ASSEMBLER ? money(random, 150, 320) : null;
+        BigDecimal pricePerMeter = role == JobRole.LEADER ? money(random, 6, 12) : null;
+        employees.add(statement -> {
+            statement.setString(1, name);
+            statement.setString(2, cpf);
+            statement.setString(3, cpf);
+            statement.setString(4, role.name());
+            statement.setBoolean(5, true);
+            statement.setBigDecimal(6, dailyRate);
+            statement.setBigDecimal(7, pricePerMeter);
+            statement.setString(8, userCpf);
+        });
+    }
+
+    private List<String> insertClients(
+            Connection connection,
+            Settings settings,
+            Random random,
+            long documentBase,
+            Counts counts
+    ) throws SQLException {
+        String sql = "insert into clients (cnpj, name, email, contact_phone) values (?, ?, ?, ?)";
+        List<String> cnpjs = new ArrayList<>();
+        try (Batch clients = new Batch(connection, sql, false, settings.batchSize())) {
+            for (int i = 0; i < settings.clients(); i++) {
+                String cnpj = document(documentBase + i, 14);
+                String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " Eventos " + (i + 1);
+                String phone = "11" + (900_000_000 + random.nextInt(99_999_999));
+                clients.add(statement -> {
+                    statement.setString(1, cnpj);
+                    statement.setString(2, name);
+                    statement.setString(3, "contato" + cnpj + "@synthetic.local");
+                    statement.setString(4, phone);
+                });
+                cnpjs.add(cnpj);
+            }
+        }
+        counts.clients += cnpjs.size();
+        return cnpjs;
+    }
+
+    private List<Long> insertParks(
+            Connection connection,
+            Settings settings,
+            Random random,
+            String clientCnpj,
+            Counts counts
+    ) throws SQLException {
+        String sql = "insert into parks (name, city, state, client_cnpj) values (?, ?, ?, ?)";
+        try (Batch parks = new Batch(connection, sql, true, settings.batchSize())) {
+            for (int i = 0; i < settings.parksPerClient(); i++) {
+                String name = PARK_NAMES[random.nextInt(PARK_NAMES.length)] + " " + clientCnpj.substring(8, 12) + "-" + (i + 1);
+                String[] city = CITIES[random.nextInt(CITIES.length)];
+                parks.add(statement -> {
+                    statement.setString(1, name);
+                    statement.setString(2, city[0]);
+                    statement.setString(3, city[1]);
+                    statement.setString(4, clientCnpj);
+                });
+            }
+            List<Long> ids = parks.flush();
+            counts.parks += ids.size();
+            return ids;
+        }
+    }
+
+    private void fillPark(
+            Connection connection,
+            Settings settings,
+            Random random,
+            Staff staff,
+            String clientCnpj,
+            long parkId,
+            Counts counts
+    ) throws SQLException {
+        List<Period> periods = insertPeriods(connection, settings, random, staff, parkId);
+        long receiptBytes = 0L;
+        long receiptCount = 0L;
+        for (Period period : periods) {
+            insertServices(connection, settings, random, staff, period, counts);
+            long[] receipts = insertPayments(connection, settings, random, staff, clientCnpj, period, counts);
+            receiptBytes += receipts[0];
+            receiptCount += receipts[1];
+        }
+        long mediaBytes = insertMedia(connection, settings, random, parkId, counts);
+
+        String usageSql = "insert into park_storage_usage "
+                + "(park_id, media_bytes, media_count, receipt_bytes, receipt_count) values (?, ?, ?, ?, ?)";
+        try (PreparedStatement usage = connection.prepareStatement(usageSql)) {
+            usage.setLong(1, parkId);
+            usage.setLong(2, mediaBytes);
+            usage.setLong(3, settings.mediaPerPark());
+            usage.setLong(4, receiptBytes);
+            usage.setLong(5, receiptCount);
+            usage.executeUpdate();
+        }
+        counts.periods += periods.size();
+    }
+
+    private List<Period> insertPeriods(
+            Connection connection,
+            Settings settings,
+            Random random,
+            Staff staff,
+            long parkId
+    ) throws SQLException {
+        String sql = "insert into financial_periods "
+                + "(park_id, fiscal_year, fiscal_month, status, jva_price_per_meter, leader_price_per_meter, "
+                + "tax_rate, car_rental_value, administrator_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Period> periods = new ArrayList<>();
+        try (Batch batch = new Batch(connection, sql, true, settings.batchSize())) {
+            for (int i = 0; i < settings.months(); i++) {
+                YearMonth month = settings.lastMonth().minusMonths(settings.months() - 1L - i);
+                // Parques nao tem evento todo mes
+                if (i < settings.months() - 1 && random.nextInt(100) < 15) {
+                    continue;
+                }
+                BigDecimal jvaPrice = money(random, 18, 35);
+                BigDecimal leaderPrice = money(random, 6, 12);
+                BigDecimal taxRate = BigDecimal.valueOf(600 + random.nextInt(1000), 4);
+                BigDecimal carRental = random.nextInt(100) < 60 ? money(random, 400, 3000) : BigDecimal.ZERO.setScale(2);
+                FinancialStatus status = i < settings.months() - 2 ? FinancialStatus.CLOSED : FinancialStatus.OPEN;
+                Long administratorId = staff.admins.isEmpty() ? null : pick(random, staff.admins);
+                batch.add(statement -> {
+                    statement.setLong(1, parkId);
+                    statement.setInt(2, month.getYear());
+                    statement.setInt(3, month.getMonthValue());
+                    statement.setString(4, status.name());
+                    statement.setBigDecimal(5, jvaPrice);
+                    statement.setBigDecimal(6, leaderPrice);
+                    statement.setBigDecimal(7, taxRate);
+                    statement.setBigDecimal(8, carRental);
+                    setLong(statement, 9, administratorId);
+                });
+                periods.add(new Period(month, jvaPrice));
+            }
+            List<Long> ids = batch.flush();
+            for (int i = 0; i < periods.size(); i++) {
+                periods.get(i).id = ids.get(i);
+            }
+        }
+        return periods;
+    }
+
+    private void insertServices(
+            Connection connection,
+            Settings settings,
+            Random random,
+            Staff staff,
+            Period period,
+            Counts counts
+    ) throws SQLException {
+        String serviceSql = "insert into service_entries "
+                + "(financial_id, service_type, team_type, leader_id, meters, unit_price, gross_value, "
+                + "notes, start_date, end_date, days) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String helperSql = "insert into service_helpers "
+                + "(service_entry_id, employee_id, days_used, daily_rate_used, total_cost) values (?, ?, ?, ?, ?)";
+
+        int serviceCount = varied(random, settings.servicesPerPeriod());
+        List<Integer> serviceDays = new ArrayList<>();
+        List<Long> serviceIds;
+        try (Batch services = new Batch(connection, serviceSql, true, settings.batchSize())) {
+            ServiceType[] types = ServiceType.values();
+            for (int i = 0; i < serviceCount; i++) {
+                BigDecimal meters = BigDecimal.valueOf(5_000 + random.nextInt(195_000), 2);
+                BigDecimal grossValue = meters.multiply(period.jvaPrice).setScale(2, RoundingMode.HALF_UP);
+                int days = 1 + random.nextInt(10);
+                LocalDate start = period.month.atDay(1 + random.nextInt(period.month.lengthOfMonth()));
+                ServiceType type = types[random.nextInt(types.length)];
+                String teamType = TEAM_TYPES[random.nextInt(TEAM_TYPES.length)];
+                Long leaderId = staff.leaders.isEmpty() ? null : pick(random, staff.leaders);
+                String notes = random.nextInt(100) < 30 ? "Estande " + (1 + random.nextInt(300)) : null;
+                services.add(statement -> {
+                    statement.setLong(1, period.id);
+                    statement.setString(2, type.name());
+                    statement.setString(3, teamType);
+                    setLong(statement, 4, leaderId);
+                    statement.setBigDecimal(5, meters);
+                    statement.setBigDecimal(6, period.jvaPrice);
+                    statement.setBigDecimal(7, grossValue);
+                    statement.setString(8, notes);
+                    statement.setDate(9, Date.valueOf(start));
+                    statement.setDate(10, Date.valueOf(start.plusDays(days - 1L)));
+                    statement.setInt(11, days);
+                });
+                serviceDays.add(days);
+            }
+            serviceIds = services.flush();
+        }
+        counts.services += serviceIds.size();
+
+        if (staff.assemblers.isEmpty() || settings.maxHelpersPerService() == 0) {
+            return;
+        }
+        try (Batch helpers = new Batch(connection, helperSql, false, settings.batchSize())) {
+            for (int i = 0; i < serviceIds.size(); i++) {
+                long serviceId = serviceIds.get(i);
+                int helperCount = random.nextInt(settings.maxHelpersPerService() + 1);
+                for (int h = 0; h < helperCount; h++) {
+                    long employeeId = pick(random, staff.assemblers);
+                    int daysUsed = 1 + random.nextInt(serviceDays.get(i));
+                    BigDecimal dailyRate = money(random, 150, 320);
+                    BigDecimal totalCost = dailyRate.multiply(BigDecimal.valueOf(daysUsed)).setScale(2, RoundingMode.HALF_UP);
+                    helpers.add(statement -> {
+                        statement.setLong(1, serviceId);
+                        statement.setLong(2, employeeId);
+                        statement.setInt(3, daysUsed);
+                        statement.setBigDecimal(4, dailyRate);
+                        statement.setBigDecimal(5, totalCost);
+                    });
+                    counts.helpers++;
+                }
+            }
+        }
+    }
+
+    // Retorna {bytes, quantidade} dos comprovantes inseridos
+    private long[] insertPayments(
+            Connection connection,
+            Settings settings,
+            Random random,
+            Staff staff,
+            String clientCnpj,
+            Period period,
+            Counts counts
+    ) throws SQLException {
+        String sql = "insert into payment_entries "
+                + "(financial_id, payment_date, name, invoice_number, amount, category, notes, employee_id, "
+                + "client_cnpj, has_receipt, receipt_bytes, receipt_file_name, receipt_content_type, receipt_size, "
+                + "receipt_hash) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        long receiptBytes = 0L;
+        long receiptCount = 0L;
+        int paymentCount = varied(random, settings.paymentsPerPeriod());
+        int rowsPerFlush = blobRows(settings.batchSize(), settings.receiptBytes());
+        try (Batch payments = new Batch(connection, sql, false, rowsPerFlush)) {
+            for (int i = 0; i < paymentCount; i++) {
+                PaymentCategory category = paymentCategory(random, staff);
+                Long employeeId = switch (category) {
+                    case EMPLOYEE_LEADER -> pick(random, staff.leaders);
+                    case EMPLOYEE_HELPER -> pick(random, staff.assemblers);
+                    default -> null;
+                };
+                String client = category == PaymentCategory.CLIENT_PAYMENT ? clientCnpj : null;
+                BigDecimal amount = switch (category) {
+                    case CLIENT_PAYMENT -> money(random, 5_000, 80_000);
+                    case TAX -> money(random, 500, 8_000);
+                    default -> money(random, 150, 4_000);
+                };
+                LocalDate date = period.month.atDay(1 + random.nextInt(period.month.lengthOfMonth()));
+                String name = paymentName(category, i);
+                String invoice = random.nextInt(100) < 40 ? "NF-" + (10_000 + random.nextInt(90_000)) : null;
+                byte[] receipt = settings.receiptBytes() > 0 && random.nextDouble() < settings.receiptRatio()
+                        ? blob(random, settings.receiptBytes())
+                        : null;
+                String receiptType = receipt == null ? null : RECEIPT_TYPES[random.nextInt(RECEIPT_TYPES.length)];
+                String receiptName = receipt == null ? null : "comprovante-" + period.id + "-" + (i + 1) + extension(receiptType);
+                payments.add(statement -> {
+                    statement.setLong(1, period.id);
+                    statement.setDate(2, Date.valueOf(date));
+                    statement.setString(3, name);
+                    statement.setString(4, invoice);
+                    statement.setBigDecimal(5, amount);
+                    statement.setString(6, category.name());
+                    statement.setString(7, null);
+                    setLong(statement, 8, employeeId);
+                    statement.setString(9, client);
+                    statement.setBoolean(10, receipt != null);
+                    statement.setBytes(11, receipt);
+                    statement.setString(12, receiptName);
+                    statement.setString(13, receiptType);
+                    setLong(statement, 14, receipt == null ? null : (long) receipt.length);
+                    statement.setString(15, receipt == null ? null : FileHashUtils.sha256Hex(receipt));
+                });
+                if (receipt != null) {
+                    receiptBytes += receipt.length;
+                    receiptCount++;
+                }
+            }
+        }
+        counts.payments += paymentCount;
+        counts.receipts += receiptCount;
+        return new long[]{receiptBytes, receiptCount};
+    }
+
+    private long insertMedia(
+            Connection connection,
+            Settings settings,
+            Random random,
+            long parkId,
+            Counts counts
+    ) throws SQLException {
+        String sql = "insert into park_media "
+                + "(park_id, file_name, content_type, file_size, file_bytes, content_hash, uploaded_at, "
+                + "metadata_status, width, height, captured_at, duration_ms) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        long totalBytes = 0L;
+        LocalDateTime firstUpload = settings.lastMonth().minusMonths(settings.months() - 1L).atDay(1).atStartOfDay();
+        long spanMinutes = Math.max(1L, (long) settings.months() * 30 * 24 * 60);
+        try (Batch media = new Batch(connection, sql, false, blobRows(settings.batchSize(), settings.mediaBytes()))) {
+            for (int i = 0; i < settings.mediaPerPark(); i++) {
+                String contentType = MEDIA_TYPES[random.nextInt(MEDIA_TYPES.length)];
+                boolean video = contentType.startsWith("video/");
+                byte[] bytes = blob(random, settings.mediaBytes());
+                LocalDateTime uploadedAt = firstUpload.plusMinutes((long) (random.nextDouble() * spanMinutes));
+                int width = video ? 1920 : 4032;
+                int height = video ? 1080 : 3024;
+                long durationMs = video ? 5_000L + random.nextInt(120_000) : 0L;
+                String fileName = (video ? "VID_" : "IMG_") + parkId + "_" + (i + 1) + extension(contentType);
+                // Bytes aleatorios nao sao uma imagem valida; marca como extraido para a varredura ignorar
+                media.add(statement -> {
+                    statement.setLong(1, parkId);
+                    statement.setString(2, fileName);
+                    statement.setString(3, contentType);
+                    statement.setLong(4, bytes.length);
+                    statement.setBytes(5, bytes);
+                    statement.setString(6, FileHashUtils.sha256Hex(bytes));
+                    statement.setTimestamp(7, Timestamp.valueOf(uploadedAt));
+                    statement.setString(8, MediaMetadataStatus.EXTRACTED.name());
+                    statement.setInt(9, width);
+                    statement.setInt(10, height);
+                    statement.setTimestamp(11, Timestamp.valueOf(uploadedAt.minusHours(1)));
+                    setLong(statement, 12, video ? durationMs : null);
+                });
+                totalBytes += bytes.length;
+            }
+        }
+        counts.media += settings.mediaPerPark();
+        counts.blobBytes += totalBytes;
+        return totalBytes;
+    }
+
+    private static PaymentCategory paymentCategory(Random random, Staff staff) {
+        int roll = random.nextInt(100);
+        if (roll < 25) {
+            return PaymentCategory.CLIENT_PAYMENT;
+        }
+        if (roll < 50 && !staff.assemblers.isEmpty()) {
+            return PaymentCategory.EMPLOYEE_HELPER;
+        }
+        if (roll < 65 && !staff.leaders.isEmpty()) {
+            return PaymentCategory.EMPLOYEE_LEADER;
+        }
+        if (roll < 75) {
+            return PaymentCategory.TAX;
+        }
+        if (roll < 85) {
+            return PaymentCategory.CAR_RENTAL;
+        }
+        return PaymentCategory.OTHER;
+    }
+
+    private static String paymentName(PaymentCategory category, int index) {
+        return switch (category) {
+            case CLIENT_PAYMENT -> "Recebimento parcela " + (index + 1);
+            case EMPLOYEE_HELPER -> "Diarias ajudante";
+            case EMPLOYEE_LEADER -> "Pagamento lider";
+            case TAX -> "Imposto sobre nota";
+            case CAR_RENTAL -> "Aluguel de carro";
+            case OTHER -> "Material e despesas";
+        };
+    }
+
+    public static String adminEmail(long seed, int index) {
+        return "admin" + (index + 1) + "." + Math.floorMod(seed, 100_000L) + "@synthetic.local";
+    }
+
+    private static String document(long value, int length) {
+        String digits = Long.toString(value);
+        return "0".repeat(Math.max(0, length - digits.length())) + digits;
+    }
+
+    private static String personName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static BigDecimal money(Random random, int min, int max) {
+        long cents = (long) min * 100 + (long) (random.nextDouble() * (max - min) * 100);
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    // Entre metade e uma vez e meia do valor medio configurado
+    private static int varied(Random random, int average) {
+        if (average <= 0) {
+            return 0;
+        }
+        return average / 2 + random.nextInt(average + 1);
+    }
+
+    private static long pick(Random random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static byte[] blob(Random random, int size) {
+        byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    // Limita a memoria do lote quando as linhas carregam arquivos
+    private static int blobRows(int batchSize, int blobBytes) {
+        int byBytes = blobBytes <= 0 ? batchSize : (int) Math.max(1L, (16L * 1024 * 1024) / blobBytes);
+        return Math.min(batchSize, byBytes);
+    }
+
+    private static String extension(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        return switch (contentType) {
+            case "application/pdf" -> ".pdf";
+            case "image/png" -> ".png";
+            case "video/mp4" -> ".mp4";
+            default -> ".jpg";
+        };
+    }
+
+    private static void setLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    // Contagens por periodo sao medias; cada periodo recebe entre 0,5x e 1,5x
+    public record Settings(
+            long seed,
+            int clients,
+            int parksPerClient,
+            YearMonth lastMonth,
+            int months,
+            int admins,
+            String adminPasswordHash,
+            int leaders,
+            int assemblers,
+            int servicesPerPeriod,
+            int maxHelpersPerService,
+            int paymentsPerPeriod,
+            double receiptRatio,
+            int receiptBytes,
+            int mediaPerPark,
+            int mediaBytes,
+            int batchSize
+    ) {
+        public Settings {
+            if (clients < 0 || parksPerClient < 0 || months < 1 || admins < 0 || leaders < 0 || assemblers < 0
+                    || servicesPerPeriod < 0 || maxHelpersPerService < 0 || paymentsPerPeriod < 0
+                    || receiptBytes < 0 || mediaPerPark < 0 || mediaBytes < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("Synthetic data volumes must be non-negative.");
+            }
+            if (receiptRatio < 0 || receiptRatio > 1) {
+                throw new IllegalArgumentException("Receipt ratio must be between 0 and 1.");
+            }
+            if (admins > 0 && (adminPasswordHash == null || adminPasswordHash.isBlank())) {
+                throw new IllegalArgumentException("Admin password is required to create admins.");
+            }
+        }
+    }
+
+    public record Result(
+            long employees,
+            long clients,
+            long parks,
+            long periods,
+            long services,
+            long helpers,
+            long payments,
+            long receipts,
+            long media,
+            long blobBytes
+    ) {
+    }
+
+    private static final class Counts {
+        long employees;
+        long clients;
+        long parks;
+        long periods;
+        long services;
+        long helpers;
+        long payments;
+        long receipts;
+        long media;
+        long blobBytes;
+
+        Result toResult() {
+            return new Result(employees, clients, parks, periods, services, helpers, payments, receipts, media, blobBytes);
+        }
+    }
+
+    private static final class Staff {
+        final List<Long> admins = new ArrayList<>();
+        final List<Long> leaders = new ArrayList<>();
+        final List<Long> assemblers = new ArrayList<>();
+    }
+
+    private static final class Period {
+        final YearMonth month;
+        final BigDecimal jvaPrice;
+        long id;
+
+        Period(YearMonth month, BigDecimal jvaPrice) {
+            this.month = month;
+            this.jvaPrice = jvaPrice;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    private static final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private final boolean returnKeys;
+        private final int rowsPerFlush;
+        private final List<Long> keys = new ArrayList<>();
+        private int pending;
+
+        Batch(Connection connection, String sql, boolean returnKeys, int rowsPerFlush) throws SQLException {
+            this.statement = returnKeys
+                    ? connection.prepareStatement(sql, new String[]{"id"})
+                    : connection.prepareStatement(sql);
+            this.returnKeys = returnKeys;
+            this.rowsPerFlush = rowsPerFlush;
+        }
+
+        void add(Binder binder) throws SQLException {
+            binder.bind(statement);
+            statement.addBatch();
+            if (++pending >= rowsPerFlush) {
+                execute();
+            }
+        }
+
+        List<Long> flush() throws SQLException {
+            execute();
+            List<Long> collected = List.copyOf(keys);
+            keys.clear();
+            return collected;
+        }
+
+        private void execute() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            statement.executeBatch();
+            pending = 0;
+            if (returnKeys) {
+                try (ResultSet generated = statement.getGeneratedKeys()) {
+                    while (generated.next()) {
+                        keys.add(generated.getLong(1));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                execute();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
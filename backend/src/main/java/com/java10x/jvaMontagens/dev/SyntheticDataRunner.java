@@ -0,0 +1,97 @@
+package com.java10x.jvaMontagens.dev;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+
+// Perfil synthetic-data: gera os dados e encerra a aplicacao
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final SyntheticDataGenerator.Settings settings;
+    private final String adminPassword;
+    private final boolean exitWhenDone;
+
+    public SyntheticDataRunner(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext context,
+            @Value("${synthetic.seed:42}") long seed,
+            @Value("${synthetic.clients:20}") int clients,
+            @Value("${synthetic.parks-per-client:5}") int parksPerClient,
+            @Value("${synthetic.last-month:2026-06}") String lastMonth,
+            @Value("${synthetic.months:36}") int months,
+            @Value("${synthetic.admins:10}") int admins,
+            @Value("${synthetic.admin-password:synthetic}") String adminPassword,
+            @Value("${synthetic.leaders:15}") int leaders,
+            @Value("${synthetic.assemblers:60}") int assemblers,
+            @Value("${synthetic.services-per-period:20}") int servicesPerPeriod,
+            @Value("${synthetic.max-helpers-per-service:4}") int maxHelpersPerService,
+            @Value("${synthetic.payments-per-period:30}") int paymentsPerPeriod,
+            @Value("${synthetic.receipt-ratio:0.5}") double receiptRatio,
+            @Value("${synthetic.receipt-size:200KB}") DataSize receiptSize,
+            @Value("${synthetic.media-per-park:40}") int mediaPerPark,
+            @Value("${synthetic.media-size:1MB}") DataSize mediaSize,
+            @Value("${synthetic.batch-size:500}") int batchSize,
+            @Value("${synthetic.exit-when-done:true}") boolean exitWhenDone
+    ) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.adminPassword = adminPassword;
+        this.exitWhenDone = exitWhenDone;
+        this.settings = new SyntheticDataGenerator.Settings(
+                seed,
+                clients,
+                parksPerClient,
+                YearMonth.parse(lastMonth),
+                months,
+                admins,
+                admins > 0 ? passwordEncoder.encode(adminPassword) : null,
+                leaders,
+                assemblers,
+                servicesPerPeriod,
+                maxHelpersPerService,
+                paymentsPerPeriod,
+                receiptRatio,
+                Math.toIntExact(receiptSize.toBytes()),
+                mediaPerPark,
+                Math.toIntExact(mediaSize.toBytes()),
+                batchSize
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Generating synthetic data with {}", settings);
+        long started = System.nanoTime();
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dataSource).generate(settings);
+        log.info(
+                "Synthetic data done in {} s: {}. Admins log in as {} .. {} with password '{}'.",
+                (System.nanoTime() - started) / 1_000_000_000L,
+                result,
+                SyntheticDataGenerator.adminEmail(settings.seed(), 0),
+                SyntheticDataGenerator.adminEmail(settings.seed(), Math.max(0, settings.admins() - 1)),
+                adminPassword
+        );
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.java10x.jvaMontagens.model;
+
+public enum MediaMetadataStatus {
+    PENDING,
+    EXTRACTED,
+    FAILED
+}
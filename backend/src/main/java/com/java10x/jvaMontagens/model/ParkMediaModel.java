@@ -34,9 +34,28 @@ public class ParkMediaModel {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt = LocalDateTime.now();
 
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "captured_at")
+    private LocalDateTime capturedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metadata_status", length = 20)
+    private MediaMetadataStatus metadataStatus = MediaMetadataStatus.PENDING;
+
     @JsonIgnore
     @JdbcTypeCode(SqlTypes.VARBINARY)
     @Column(name = "file_bytes", columnDefinition = "bytea", nullable = false)
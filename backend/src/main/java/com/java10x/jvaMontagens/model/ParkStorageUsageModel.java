@@ -0,0 +1,29 @@
+package com.java10x.jvaMontagens.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "park_storage_usage")
+public class ParkStorageUsageModel {
+    @Id
+    @Column(name = "park_id", nullable = false)
+    private Long parkId;
+
+    @Column(name = "media_bytes", nullable = false)
+    private Long mediaBytes = 0L;
+
+    @Column(name = "media_count", nullable = false)
+    private Long mediaCount = 0L;
+
+    @Column(name = "receipt_bytes", nullable = false)
+    private Long receiptBytes = 0L;
+
+    @Column(name = "receipt_count", nullable = false)
+    private Long receiptCount = 0L;
+}
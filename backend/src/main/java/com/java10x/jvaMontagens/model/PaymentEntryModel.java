@@ -65,6 +65,9 @@ public class PaymentEntryModel {
     @Column(name = "receipt_size")
     private Long receiptSize;
 
+    @Column(name = "receipt_hash", length = 64)
+    private String receiptHash;
+
     @JsonIgnore
     @JdbcTypeCode(SqlTypes.VARBINARY)
     @Column(name = "receipt_bytes", columnDefinition = "bytea")
@@ -1,11 +1,19 @@
 package com.java10x.jvaMontagens.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.java10x.jvaMontagens.model.ClientModel;
 
+import java.util.List;
+
 @Repository
 public interface ClientRepository extends JpaRepository<ClientModel, String> {
-
-
+    @Query("""
+            select c from ClientModel c
+            where c.name > :afterName or (c.name = :afterName and c.cnpj > :afterCnpj)
+            order by c.name asc, c.cnpj asc
+            """)
+    List<ClientModel> findPage(String afterName, String afterCnpj, Pageable pageable);
 }
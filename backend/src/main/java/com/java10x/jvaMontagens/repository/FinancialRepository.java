@@ -1,7 +1,10 @@
 package com.java10x.jvaMontagens.repository;
 
 import com.java10x.jvaMontagens.model.FinancialModel;
+import com.java10x.jvaMontagens.model.FinancialStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,46 @@ public interface FinancialRepository extends JpaRepository<FinancialModel, Long>
     Optional<FinancialModel> findByParkIdAndYearAndMonth(Long parkId, Integer year, Integer month);
     boolean existsByParkIdAndYearAndMonth(Long parkId, Integer year, Integer month);
     List<FinancialModel> findByParkIdOrderByYearDescMonthDesc(Long parkId);
+
+    // Todos os periodos com o parque carregado, para relatorios que agrupam por parque
+    @Query("""
+            select f from FinancialModel f
+            join fetch f.park p
+            join fetch p.client
+            """)
+    List<FinancialModel> findAllWithPark();
+
+    @Query("""
+            select f from FinancialModel f
+            join fetch f.park p
+            join fetch p.client
+            left join fetch f.administrator a
+            left join fetch a.user
+            where f.id = :financialId
+            """)
+    Optional<FinancialModel> findDetailedById(Long financialId);
+
+    @Query("""
+            select f from FinancialModel f
+            join fetch f.park p
+            join fetch p.client
+            left join fetch f.administrator a
+            left join fetch a.user
+            where (:parkId is null or f.park.id = :parkId)
+              and (:year is null or f.year = :year)
+              and (:status is null or f.status = :status)
+              and (f.year < :afterYear
+                   or (f.year = :afterYear and f.month < :afterMonth)
+                   or (f.year = :afterYear and f.month = :afterMonth and f.id < :afterId))
+            order by f.year desc, f.month desc, f.id desc
+            """)
+    List<FinancialModel> findPage(
+            Long parkId,
+            Integer year,
+            FinancialStatus status,
+            int afterYear,
+            int afterMonth,
+            long afterId,
+            Pageable pageable
+    );
 }
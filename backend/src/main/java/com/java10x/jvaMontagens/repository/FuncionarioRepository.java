@@ -1,7 +1,9 @@
 package com.java10x.jvaMontagens.repository;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import com.java10x.jvaMontagens.model.FuncionariosModel;
 import com.java10x.jvaMontagens.model.JobRole;
 
@@ -11,8 +13,15 @@ import java.util.Optional;
 
 @Repository
 public interface FuncionarioRepository extends JpaRepository<FuncionariosModel, Long> {
-    List<FuncionariosModel> findByRole(JobRole role);
-    List<FuncionariosModel> findByActiveTrue();
-    List<FuncionariosModel> findByRoleAndActiveTrue(JobRole role);
     Optional<FuncionariosModel> findByUserCpfAndRoleAndActiveTrue(String userCpf, JobRole role);
+
+    @Query("""
+            select f from FuncionariosModel f
+            left join fetch f.user
+            where (:role is null or f.role = :role)
+              and (:active is null or f.active = :active)
+              and (f.name > :afterName or (f.name = :afterName and f.id > :afterId))
+            order by f.name asc, f.id asc
+            """)
+    List<FuncionariosModel> findPage(JobRole role, Boolean active, String afterName, long afterId, Pageable pageable);
 }
@@ -0,0 +1,133 @@
+package com.java10x.jvaMontagens.repository;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Grava e le o bytea por stream, sem montar o byte[] do mapeamento JPA
+@Repository
+public class ParkMediaContentWriter {
+    private static final String INSERT_SQL = """
+            insert into park_media (park_id, file_name, content_type, file_size, content_hash, uploaded_at, file_bytes, metadata_status)
+            values (?, ?, ?, ?, ?, ?, ?, 'PENDING')
+            """;
+    private static final String SELECT_CONTENT_SQL = "select file_bytes, file_size from park_media where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ParkMediaContentWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public Long insert(Long parkId, MediaContent media) {
+        return insertAll(parkId, List.of(media)).get(0);
+    }
+
+    @Transactional
+    public List<Long> insertAll(Long parkId, List<MediaContent> media) {
+        if (media.isEmpty()) {
+            return List.of();
+        }
+
+        List<InputStream> openStreams = new ArrayList<>();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int index) throws SQLException {
+                            MediaContent item = media.get(index);
+                            InputStream in = open(item.content());
+                            openStreams.add(in);
+
+                            statement.setLong(1, parkId);
+                            statement.setString(2, item.fileName());
+                            statement.setString(3, item.contentType());
+                            statement.setLong(4, item.fileSize());
+                            statement.setString(5, item.contentHash());
+                            statement.setTimestamp(6, Timestamp.valueOf(item.uploadedAt()));
+                            statement.setBinaryStream(7, in, item.fileSize());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return media.size();
+                        }
+                    },
+                    keyHolder
+            );
+        } finally {
+            closeQuietly(openStreams);
+        }
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+    public <T> Optional<T> readContent(Long mediaId, ContentReader<T> reader) {
+        return Optional.ofNullable(jdbcTemplate.query(SELECT_CONTENT_SQL, result -> {
+            if (!result.next()) {
+                return null;
+            }
+            long size = result.getLong(2);
+            if (result.wasNull()) {
+                size = -1L;
+            }
+            try (InputStream in = result.getBinaryStream(1)) {
+                return in == null ? null : reader.read(in, size);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, mediaId));
+    }
+
+    private InputStream open(InputStreamSource content) {
+        try {
+            return content.getInputStream();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void closeQuietly(List<InputStream> streams) {
+        for (InputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // Conteudo ja enviado ao banco; falha ao fechar nao afeta o insert
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T read(InputStream content, long size) throws IOException;
+    }
+
+    public record MediaContent(
+            String fileName,
+            String contentType,
+            long fileSize,
+            String contentHash,
+            LocalDateTime uploadedAt,
+            InputStreamSource content
+    ) {}
+}
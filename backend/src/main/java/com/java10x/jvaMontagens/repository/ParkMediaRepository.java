@@ -1,12 +1,106 @@
 package com.java10x.jvaMontagens.repository;
 
+import com.java10x.jvaMontagens.model.MediaMetadataStatus;
 import com.java10x.jvaMontagens.model.ParkMediaModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ParkMediaRepository extends JpaRepository<ParkMediaModel, Long> {
-    List<ParkMediaModel> findByParkIdOrderByUploadedAtDesc(Long parkId);
+    @Query("""
+            select m.id as id, m.fileName as fileName, m.contentType as contentType, m.fileSize as fileSize,
+                   m.uploadedAt as uploadedAt, m.capturedAt as capturedAt, m.width as width, m.height as height,
+                   m.durationMs as durationMs, m.metadataStatus as metadataStatus
+            from ParkMediaModel m
+            where m.park.id = :parkId
+              and m.contentType like :contentTypePattern
+              and (:capturedFrom is null or m.capturedAt >= :capturedFrom)
+              and (:capturedTo is null or m.capturedAt < :capturedTo)
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<MediaListing> streamListingByParkId(
+            Long parkId,
+            String contentTypePattern,
+            LocalDateTime capturedFrom,
+            LocalDateTime capturedTo,
+            Sort sort
+    );
+
+    @Query("""
+            select m.id from ParkMediaModel m
+            where (m.metadataStatus is null or m.metadataStatus = :status) and m.id > :afterId
+            order by m.id
+            """)
+    List<Long> findIdsByMetadataStatus(MediaMetadataStatus status, long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update ParkMediaModel m
+            set m.width = :width, m.height = :height, m.capturedAt = :capturedAt,
+                m.durationMs = :durationMs, m.metadataStatus = :status
+            where m.id = :mediaId
+            """)
+    int updateMetadata(
+            Long mediaId,
+            Integer width,
+            Integer height,
+            LocalDateTime capturedAt,
+            Long durationMs,
+            MediaMetadataStatus status
+    );
+
+    @Query("select m.contentHash from ParkMediaModel m where m.id = :mediaId")
+    Optional<String> findContentHashById(Long mediaId);
+
+    @Query("""
+            select m.id as id, m.fileName as fileName, m.contentType as contentType, m.fileSize as fileSize
+            from ParkMediaModel m
+            where m.park.id = :parkId
+            order by m.uploadedAt desc
+            """)
+    List<MediaMetadata> findMetadataByParkId(Long parkId);
+
+    @Query("select m.fileBytes from ParkMediaModel m where m.id = :mediaId")
+    Optional<byte[]> findFileBytesById(Long mediaId);
+
+    @Query("""
+            select coalesce(sum(m.fileSize), 0) as totalBytes, count(m) as fileCount
+            from ParkMediaModel m
+            where m.park.id = :parkId
+            """)
+    ParkStorageUsageRepository.StorageTotals sumByParkId(Long parkId);
+
+    interface MediaListing {
+        Long getId();
+        String getFileName();
+        String getContentType();
+        Long getFileSize();
+        LocalDateTime getUploadedAt();
+        LocalDateTime getCapturedAt();
+        Integer getWidth();
+        Integer getHeight();
+        Long getDurationMs();
+        MediaMetadataStatus getMetadataStatus();
+    }
+
+    interface MediaMetadata {
+        Long getId();
+        String getFileName();
+        String getContentType();
+        Long getFileSize();
+    }
 }
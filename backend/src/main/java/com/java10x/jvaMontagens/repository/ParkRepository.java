@@ -1,7 +1,9 @@
 package com.java10x.jvaMontagens.repository;
 
 import com.java10x.jvaMontagens.model.ParkModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,16 @@ import java.util.List;
 @Repository
 public interface ParkRepository extends JpaRepository<ParkModel, Long> {
     List<ParkModel> findByClientCnpj(String clientCnpj);
+
+    @Query("select p from ParkModel p join fetch p.client")
+    List<ParkModel> findAllWithClient();
+
+    @Query("""
+            select p from ParkModel p
+            join fetch p.client
+            where (:clientCnpj is null or p.client.cnpj = :clientCnpj)
+              and (p.name > :afterName or (p.name = :afterName and p.id > :afterId))
+            order by p.name asc, p.id asc
+            """)
+    List<ParkModel> findPage(String clientCnpj, String afterName, long afterId, Pageable pageable);
 }
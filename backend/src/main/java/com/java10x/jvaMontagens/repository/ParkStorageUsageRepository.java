@@ -0,0 +1,38 @@
+package com.java10x.jvaMontagens.repository;
+
+import com.java10x.jvaMontagens.model.ParkStorageUsageModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ParkStorageUsageRepository extends JpaRepository<ParkStorageUsageModel, Long> {
+    @Modifying
+    @Query("""
+            update ParkStorageUsageModel u
+            set u.mediaBytes = u.mediaBytes + :mediaBytes,
+                u.mediaCount = u.mediaCount + :mediaCount,
+                u.receiptBytes = u.receiptBytes + :receiptBytes,
+                u.receiptCount = u.receiptCount + :receiptCount
+            where u.parkId = :parkId
+            """)
+    int applyDelta(Long parkId, long mediaBytes, long mediaCount, long receiptBytes, long receiptCount);
+
+    @Modifying
+    @Query(value = """
+            insert into park_storage_usage (park_id, media_bytes, media_count, receipt_bytes, receipt_count)
+            values (:parkId, :mediaBytes, :mediaCount, :receiptBytes, :receiptCount)
+            on conflict (park_id) do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(Long parkId, long mediaBytes, long mediaCount, long receiptBytes, long receiptCount);
+
+    @Modifying
+    @Query("delete from ParkStorageUsageModel u where u.parkId in (select p.id from ParkModel p where p.client.cnpj = :clientCnpj)")
+    void deleteByClientCnpj(String clientCnpj);
+
+    interface StorageTotals {
+        Long getTotalBytes();
+        Long getFileCount();
+    }
+}
@@ -1,12 +1,181 @@
 package com.java10x.jvaMontagens.repository;
 
+import com.java10x.jvaMontagens.model.JobRole;
+import com.java10x.jvaMontagens.model.PaymentCategory;
 import com.java10x.jvaMontagens.model.PaymentEntryModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentEntryRepository extends JpaRepository<PaymentEntryModel, Long> {
     List<PaymentEntryModel> findByFinancialId(Long financialId);
+
+    // Sem o comprovante: receipt_bytes e mapeado sem lazy e a pagina nao o usa
+    @Query("""
+            select p.id as id, p.paymentDate as paymentDate, p.name as name, p.invoiceNumber as invoiceNumber,
+                   p.amount as amount, p.category as category, p.notes as notes,
+                   e.id as employeeId, e.name as employeeName, e.role as employeeRole,
+                   c.cnpj as clientCnpj, c.name as clientName, c.contactPhone as clientContactPhone,
+                   c.email as clientEmail, p.hasReceipt as hasReceipt, p.receiptFileName as receiptFileName,
+                   p.receiptContentType as receiptContentType, p.receiptSize as receiptSize
+            from PaymentEntryModel p
+            left join p.employee e
+            left join p.client c
+            where p.financial.id = :financialId
+              and (:category is null or p.category = :category)
+              and (:paidFrom is null or p.paymentDate >= :paidFrom)
+              and (:paidTo is null or p.paymentDate <= :paidTo)
+              and (p.paymentDate > :afterDate or (p.paymentDate = :afterDate and p.id > :afterId))
+            order by p.paymentDate asc, p.id asc
+            """)
+    List<PaymentRow> findPage(
+            Long financialId,
+            PaymentCategory category,
+            LocalDate paidFrom,
+            LocalDate paidTo,
+            LocalDate afterDate,
+            long afterId,
+            Pageable pageable
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select p.id as id, f.id as periodId, f.year as year, f.month as month, p.paymentDate as paymentDate,
+                   p.name as name, p.invoiceNumber as invoiceNumber, p.category as category, p.amount as amount,
+                   e.id as employeeId, e.name as employeeName, c.cnpj as clientCnpj, c.name as clientName,
+                   p.hasReceipt as hasReceipt
+            from PaymentEntryModel p
+            join p.financial f
+            left join p.employee e
+            left join p.client c
+            where f.park.id = :parkId
+              and (:paidFrom is null or p.paymentDate >= :paidFrom)
+              and (:paidTo is null or p.paymentDate <= :paidTo)
+            order by p.paymentDate asc, p.id asc
+            """)
+    Stream<LedgerRow> streamLedgerByParkId(Long parkId, LocalDate paidFrom, LocalDate paidTo);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select p.id as id, p.name as name, p.invoiceNumber as invoiceNumber, p.notes as notes,
+                   f.park.id as parkId, f.id as periodId, f.year as year, f.month as month
+            from PaymentEntryModel p
+            join p.financial f
+            """)
+    Stream<SearchRow> streamSearchRows();
+
+    @Query("select p.receiptHash from PaymentEntryModel p where p.id = :paymentId and p.hasReceipt = true")
+    Optional<String> findReceiptHashById(Long paymentId);
+
+    @Query("""
+            select p.id as id, p.paymentDate as paymentDate, p.receiptFileName as receiptFileName,
+                   p.receiptContentType as receiptContentType, p.receiptSize as receiptSize
+            from PaymentEntryModel p
+            where p.financial.id = :financialId and p.hasReceipt = true
+            order by p.paymentDate asc, p.id asc
+            """)
+    List<ReceiptMetadata> findReceiptMetadataByFinancialId(Long financialId);
+
+    @Query("select p.receiptBytes from PaymentEntryModel p where p.id = :paymentId and p.hasReceipt = true")
+    Optional<byte[]> findReceiptBytesById(Long paymentId);
+
+    @Query("""
+            select coalesce(sum(p.receiptSize), 0) as totalBytes, count(p) as fileCount
+            from PaymentEntryModel p
+            where p.financial.park.id = :parkId and p.hasReceipt = true
+            """)
+    ParkStorageUsageRepository.StorageTotals sumReceiptsByParkId(Long parkId);
+
+    @Query("""
+            select coalesce(sum(p.receiptSize), 0) as totalBytes, count(p) as fileCount
+            from PaymentEntryModel p
+            where p.financial.id = :financialId and p.hasReceipt = true
+            """)
+    ParkStorageUsageRepository.StorageTotals sumReceiptsByFinancialId(Long financialId);
+
+    // Totais por periodo e categoria, sem carregar os comprovantes
+    @Query("""
+            select p.financial.id as financialId, p.category as category,
+                   count(p) as paymentCount, sum(p.amount) as total
+            from PaymentEntryModel p
+            where p.financial.id in :financialIds
+            group by p.financial.id, p.category
+            """)
+    List<PaymentTotals> sumAmountsByFinancialIdIn(Collection<Long> financialIds);
+
+    interface PaymentRow {
+        Long getId();
+        LocalDate getPaymentDate();
+        String getName();
+        String getInvoiceNumber();
+        BigDecimal getAmount();
+        PaymentCategory getCategory();
+        String getNotes();
+        Long getEmployeeId();
+        String getEmployeeName();
+        JobRole getEmployeeRole();
+        String getClientCnpj();
+        String getClientName();
+        String getClientContactPhone();
+        String getClientEmail();
+        Boolean getHasReceipt();
+        String getReceiptFileName();
+        String getReceiptContentType();
+        Long getReceiptSize();
+    }
+
+    interface LedgerRow {
+        Long getId();
+        Long getPeriodId();
+        Integer getYear();
+        Integer getMonth();
+        LocalDate getPaymentDate();
+        String getName();
+        String getInvoiceNumber();
+        PaymentCategory getCategory();
+        BigDecimal getAmount();
+        Long getEmployeeId();
+        String getEmployeeName();
+        String getClientCnpj();
+        String getClientName();
+        Boolean getHasReceipt();
+    }
+
+    interface PaymentTotals {
+        Long getFinancialId();
+        PaymentCategory getCategory();
+        Long getPaymentCount();
+        BigDecimal getTotal();
+    }
+
+    interface SearchRow {
+        Long getId();
+        String getName();
+        String getInvoiceNumber();
+        String getNotes();
+        Long getParkId();
+        Long getPeriodId();
+        Integer getYear();
+        Integer getMonth();
+    }
+
+    interface ReceiptMetadata {
+        Long getId();
+        LocalDate getPaymentDate();
+        String getReceiptFileName();
+        String getReceiptContentType();
+        Long getReceiptSize();
+    }
 }
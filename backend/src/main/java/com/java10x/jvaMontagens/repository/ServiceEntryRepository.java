@@ -1,13 +1,44 @@
 package com.java10x.jvaMontagens.repository;
 
 import com.java10x.jvaMontagens.model.ServiceEntryModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ServiceEntryRepository extends JpaRepository<ServiceEntryModel, Long> {
     List<ServiceEntryModel> findByFinancialId(Long financialId);
     boolean existsByFinancialIdAndLeaderIsNull(Long financialId);
+
+    @Query("""
+            select s from ServiceEntryModel s
+            left join fetch s.leader l
+            left join fetch l.user
+            where s.financial.id = :financialId and s.id > :afterId
+            order by s.id asc
+            """)
+    List<ServiceEntryModel> findPage(Long financialId, long afterId, Pageable pageable);
+
+    // Helpers vem depois, de uma vez, com fetchHelpers
+    @Query("""
+            select s from ServiceEntryModel s
+            left join fetch s.leader l
+            left join fetch l.user
+            where s.financial.id in :financialIds
+            order by s.id asc
+            """)
+    List<ServiceEntryModel> findWithLeaderByFinancialIdIn(Collection<Long> financialIds);
+
+    @Query("""
+            select distinct s from ServiceEntryModel s
+            left join fetch s.helpers h
+            left join fetch h.employee e
+            left join fetch e.user
+            where s.id in :serviceIds
+            """)
+    List<ServiceEntryModel> fetchHelpers(Collection<Long> serviceIds);
 }
@@ -0,0 +1,35 @@
+package com.java10x.jvaMontagens.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Quem muda administradores chama invalidate; o TTL cobre mudancas feitas fora da aplicacao
+@Component
+public class AdminPrincipalCache {
+    private final Cache<String, SecurityFilter.AdminPrincipal> principals;
+
+    public AdminPrincipalCache(
+            @Value("${security.principal-cache.ttl:60s}") Duration ttl,
+            @Value("${security.principal-cache.max-size:1000}") long maxSize
+    ) {
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public SecurityFilter.AdminPrincipal get(String cpf, Function<String, SecurityFilter.AdminPrincipal> loader) {
+        return principals.get(cpf, loader);
+    }
+
+    public void invalidate(String cpf) {
+        if (cpf != null) {
+            principals.invalidate(cpf);
+        }
+    }
+}
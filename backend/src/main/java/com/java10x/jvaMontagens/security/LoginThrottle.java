@@ -0,0 +1,155 @@
+package com.java10x.jvaMontagens.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Tentativas limitadas por endereco e por email + endereco; o BCrypt roda atras de um semaforo
+@Component
+public class LoginThrottle {
+    private final BucketPolicy emailPolicy;
+    private final BucketPolicy addressPolicy;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> addressBuckets;
+    private final Semaphore hashPermits;
+    private final Duration hashWait;
+
+    private final Counter emailThrottled;
+    private final Counter addressThrottled;
+    private final Counter hashBusy;
+    private final Timer hashTimer;
+
+    public LoginThrottle(
+            @Value("${security.login.email-burst:5}") int emailBurst,
+            @Value("${security.login.email-refill-period:1m}") Duration emailRefillPeriod,
+            @Value("${security.login.address-burst:20}") int addressBurst,
+            @Value("${security.login.address-refill-period:6s}") Duration addressRefillPeriod,
+            @Value("${security.login.max-concurrent-hashes:0}") int maxConcurrentHashes,
+            @Value("${security.login.hash-wait:2s}") Duration hashWait,
+            MeterRegistry meterRegistry
+    ) {
+        this.emailPolicy = new BucketPolicy(emailBurst, emailRefillPeriod.toNanos());
+        this.addressPolicy = new BucketPolicy(addressBurst, addressRefillPeriod.toNanos());
+        // Um bucket ocioso por tempo suficiente para encher de novo equivale a um bucket novo
+        this.emailBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(emailRefillPeriod.multipliedBy(emailBurst))
+                .maximumSize(100_000)
+                .build();
+        this.addressBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(addressRefillPeriod.multipliedBy(addressBurst))
+                .maximumSize(100_000)
+                .build();
+
+        int permits = maxConcurrentHashes > 0
+                ? maxConcurrentHashes
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashPermits = new Semaphore(permits, true);
+        this.hashWait = hashWait;
+
+        this.emailThrottled = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before checking the password")
+                .tag("reason", "email")
+                .register(meterRegistry);
+        this.addressThrottled = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before checking the password")
+                .tag("reason", "address")
+                .register(meterRegistry);
+        this.hashBusy = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before checking the password")
+                .tag("reason", "hash-busy")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("auth.login.hash")
+                .description("Time spent hashing or verifying login passwords")
+                .register(meterRegistry);
+    }
+
+    // Endereco primeiro: varrer emails de um cliente nao cria um bucket por email
+    public void checkAttempt(String email, String clientAddress) {
+        checkAttempt(email, clientAddress, System.nanoTime());
+    }
+
+    void checkAttempt(String email, String clientAddress, long now) {
+        if (clientAddress != null) {
+            long waitNanos = addressBuckets.get(clientAddress, key -> new TokenBucket(addressPolicy, now))
+                    .tryConsume(now);
+            if (waitNanos > 0) {
+                addressThrottled.increment();
+                throw new LoginThrottledException("Too many login attempts from this address.", toRetrySeconds(waitNanos));
+            }
+        }
+
+        // Chave email + endereco: errar a senha de outra maquina nao bloqueia o dono da conta
+        String emailKey = email.trim().toLowerCase(Locale.ROOT) + "|" + clientAddress;
+        long waitNanos = emailBuckets.get(emailKey, key -> new TokenBucket(emailPolicy, now))
+                .tryConsume(now);
+        if (waitNanos > 0) {
+            emailThrottled.increment();
+            throw new LoginThrottledException("Too many login attempts for this email.", toRetrySeconds(waitNanos));
+        }
+    }
+
+    public <T> T hash(Supplier<T> work) {
+        boolean acquired;
+        try {
+            acquired = hashPermits.tryAcquire(hashWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            hashBusy.increment();
+            throw new LoginThrottledException("Login service is busy.", 1L);
+        }
+
+        try {
+            return hashTimer.record(work);
+        } finally {
+            hashPermits.release();
+        }
+    }
+
+    private long toRetrySeconds(long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private record BucketPolicy(int capacity, long refillNanos) {}
+
+    private record BucketState(double tokens, long updatedAt) {}
+
+    // Sem lock: recarga e consumo num unico compareAndSet
+    private static final class TokenBucket {
+        private final BucketPolicy policy;
+        private final AtomicReference<BucketState> state;
+
+        private TokenBucket(BucketPolicy policy, long now) {
+            this.policy = policy;
+            this.state = new AtomicReference<>(new BucketState(policy.capacity(), now));
+        }
+
+        // 0 se consumiu; senao, nanos ate o proximo token
+        private long tryConsume(long now) {
+            while (true) {
+                BucketState current = state.get();
+                double elapsed = Math.max(0L, now - current.updatedAt());
+                double available = Math.min(policy.capacity(), current.tokens() + elapsed / policy.refillNanos());
+                if (available < 1.0) {
+                    return (long) Math.ceil((1.0 - available) * policy.refillNanos());
+                }
+                if (state.compareAndSet(current, new BucketState(available - 1.0, Math.max(now, current.updatedAt())))) {
+                    return 0L;
+                }
+            }
+        }
+    }
+}
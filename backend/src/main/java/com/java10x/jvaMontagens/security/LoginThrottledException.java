@@ -0,0 +1,14 @@
+package com.java10x.jvaMontagens.security;
+
+public class LoginThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -23,15 +23,18 @@ public class SecurityFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
     private final UserRepository userRepository;
     private final FuncionarioRepository funcionarioRepository;
+    private final AdminPrincipalCache adminPrincipalCache;
 
     public SecurityFilter(
             TokenService tokenService,
             UserRepository userRepository,
-            FuncionarioRepository funcionarioRepository
+            FuncionarioRepository funcionarioRepository,
+            AdminPrincipalCache adminPrincipalCache
     ) {
         this.tokenService = tokenService;
         this.userRepository = userRepository;
         this.funcionarioRepository = funcionarioRepository;
+        this.adminPrincipalCache = adminPrincipalCache;
     }
 
     @Override
@@ -57,20 +60,9 @@ public class SecurityFilter extends OncePerRequestFilter {
                 throw new SecurityException("Invalid role.");
             }
 
-            UserModel user = userRepository.findById(tokenData.cpf())
-                    .orElseThrow(() -> new SecurityException("User not found for token."));
-
-            funcionarioRepository.findByUserCpfAndRoleAndActiveTrue(tokenData.cpf(), JobRole.ADMINISTRATOR)
-                    .orElseThrow(() -> new SecurityException("Inactive administrator."));
+            AdminPrincipal principal = adminPrincipalCache.get(tokenData.cpf(), this::loadAdminPrincipal);
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                AdminPrincipal principal = new AdminPrincipal(
-                        user.getCpf(),
-                        user.getEmail(),
-                        user.getFullName(),
-                        JobRole.ADMINISTRATOR.name()
-                );
-
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                         principal,
                         null,
@@ -84,6 +76,21 @@ public class SecurityFilter extends OncePerRequestFilter {
         }
     }
 
+    private AdminPrincipal loadAdminPrincipal(String cpf) {
+        UserModel user = userRepository.findById(cpf)
+                .orElseThrow(() -> new SecurityException("User not found for token."));
+
+        funcionarioRepository.findByUserCpfAndRoleAndActiveTrue(cpf, JobRole.ADMINISTRATOR)
+                .orElseThrow(() -> new SecurityException("Inactive administrator."));
+
+        return new AdminPrincipal(
+                user.getCpf(),
+                user.getEmail(),
+                user.getFullName(),
+                JobRole.ADMINISTRATOR.name()
+        );
+    }
+
     public record AdminPrincipal(
             String cpf,
             String email,
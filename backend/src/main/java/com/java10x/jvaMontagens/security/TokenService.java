@@ -1,5 +1,8 @@
 package com.java10x.jvaMontagens.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.java10x.jvaMontagens.service.DocumentUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -7,7 +10,9 @@ import org.springframework.stereotype.Service;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Base64;
@@ -16,15 +21,25 @@ import java.util.Base64;
 public class TokenService {
     private static final String HMAC_ALGORITHM = "HmacSHA256";
 
-    private final String secret;
+    private final SecretKeySpec signingKey;
     private final long expirationHours;
+    // Mac nao e thread-safe; cada thread reaproveita a sua instancia ja inicializada
+    private final ThreadLocal<Mac> macs;
+    // Tokens ja verificados, validos ate expirarem; tokens invalidos nunca entram
+    private final Cache<String, TokenData> verifiedTokens;
 
     public TokenService(
             @Value("${security.token.secret}") String secret,
-            @Value("${security.token.expiration-hours:12}") long expirationHours
+            @Value("${security.token.expiration-hours:12}") long expirationHours,
+            @Value("${security.token.cache-size:10000}") long cacheSize
     ) {
-        this.secret = secret;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
         this.expirationHours = expirationHours;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String generateToken(String cpf, String role) {
@@ -43,6 +58,21 @@ public class TokenService {
             throw new SecurityException("Missing token.");
         }
 
+        TokenData cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt().isBefore(Instant.now())) {
+                verifiedTokens.invalidate(token);
+                throw new SecurityException("Token expired.");
+            }
+            return cached;
+        }
+
+        TokenData tokenData = verify(token);
+        verifiedTokens.put(token, tokenData);
+        return tokenData;
+    }
+
+    TokenData verify(String token) {
         String[] parts = token.split("\\.");
         if (parts.length != 2) {
             throw new SecurityException("Invalid token format.");
@@ -76,16 +106,38 @@ public class TokenService {
     }
 
     private String sign(String payload) {
+        // doFinal reinicia o Mac, entao a instancia fica pronta para o proximo uso
+        byte[] rawSignature = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawSignature);
+    }
+
+    private Mac newMac() {
         try {
             Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] rawSignature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(rawSignature);
-        } catch (Exception ex) {
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException ex) {
             throw new IllegalStateException("Unable to sign token.", ex);
         }
     }
 
+    private static final class TokenExpiry implements Expiry<String, TokenData> {
+        @Override
+        public long expireAfterCreate(String token, TokenData tokenData, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), tokenData.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenData tokenData, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, tokenData, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenData tokenData, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     public record TokenData(
             String cpf,
             String role,
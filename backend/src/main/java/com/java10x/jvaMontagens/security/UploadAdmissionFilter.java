@@ -0,0 +1,87 @@
+package com.java10x.jvaMontagens.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Filtro comum: roda antes do DispatcherServlet ler o multipart
+@Component
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final UploadAdmissionLimiter limiter;
+    private final long retryAfterSeconds;
+
+    public UploadAdmissionFilter(
+            UploadAdmissionLimiter limiter,
+            @Value("${upload.admission.retry-after-seconds:10}") long retryAfterSeconds
+    ) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String method = request.getMethod();
+        if (HttpMethod.POST.matches(method)) {
+            return !PATH_MATCHER.match("/parks/*/media", path)
+                    && !PATH_MATCHER.match("/financial/payments/*/receipt", path);
+        }
+        if (HttpMethod.PUT.matches(method)) {
+            return !PATH_MATCHER.match("/parks/media/uploads/*", path);
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long declaredBytes = request.getContentLengthLong();
+        long requestedBytes = declaredBytes < 0 ? limiter.maxInFlightBytes() : declaredBytes;
+
+        long reservation;
+        try {
+            reservation = limiter.tryAcquire(requestedBytes);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reject(response);
+            return;
+        }
+
+        if (reservation < 0) {
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(reservation);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"Servidor ocupado com outros uploads. Tente novamente em instantes.\"}");
+    }
+}
@@ -0,0 +1,104 @@
+package com.java10x.jvaMontagens.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class UploadAdmissionLimiter {
+    private final int maxConcurrentRequests;
+    private final long maxInFlightBytes;
+    private final Duration queueTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private int inFlightRequests;
+    private long inFlightBytes;
+
+    private final Counter rejectedCounter;
+
+    public UploadAdmissionLimiter(
+            @Value("${upload.admission.max-concurrent-requests:4}") int maxConcurrentRequests,
+            @Value("${upload.admission.max-inflight-bytes:300MB}") DataSize maxInFlightBytes,
+            @Value("${upload.admission.queue-timeout:5s}") Duration queueTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxInFlightBytes = maxInFlightBytes.toBytes();
+        this.queueTimeout = queueTimeout;
+
+        Gauge.builder("upload.inflight.bytes", this, UploadAdmissionLimiter::inFlightBytes)
+                .description("Declared body bytes of uploads currently admitted")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("upload.inflight.requests", this, UploadAdmissionLimiter::inFlightRequests)
+                .description("Upload requests currently admitted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("upload.admission.rejected")
+                .description("Upload requests rejected because the budget stayed full")
+                .register(meterRegistry);
+    }
+
+    // Devolve o reservado (para release) ou -1 se nao houve espaco no prazo
+    public long tryAcquire(long requestedBytes) throws InterruptedException {
+        // Um upload maior que o orcamento inteiro ainda pode passar quando estiver sozinho
+        long reservation = Math.min(Math.max(requestedBytes, 0L), maxInFlightBytes);
+        long remainingNanos = queueTimeout.toNanos();
+
+        lock.lock();
+        try {
+            while (inFlightRequests >= maxConcurrentRequests || inFlightBytes + reservation > maxInFlightBytes) {
+                if (remainingNanos <= 0L) {
+                    rejectedCounter.increment();
+                    return -1L;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            inFlightRequests++;
+            inFlightBytes += reservation;
+            return reservation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long reservation) {
+        lock.lock();
+        try {
+            inFlightRequests--;
+            inFlightBytes -= reservation;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public long inFlightBytes() {
+        lock.lock();
+        try {
+            return inFlightBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlightRequests() {
+        lock.lock();
+        try {
+            return inFlightRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -5,10 +5,13 @@ import com.java10x.jvaMontagens.model.JobRole;
 import com.java10x.jvaMontagens.model.UserModel;
 import com.java10x.jvaMontagens.repository.FuncionarioRepository;
 import com.java10x.jvaMontagens.repository.UserRepository;
+import com.java10x.jvaMontagens.security.LoginThrottle;
 import com.java10x.jvaMontagens.security.TokenService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.NoSuchElementException;
 
 @Service
@@ -17,20 +20,23 @@ public class AuthService {
     private final FuncionarioRepository funcionarioRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final LoginThrottle loginThrottle;
 
     public AuthService(
             UserRepository userRepository,
             FuncionarioRepository funcionarioRepository,
             PasswordEncoder passwordEncoder,
-            TokenService tokenService
+            TokenService tokenService,
+            LoginThrottle loginThrottle
     ) {
         this.userRepository = userRepository;
         this.funcionarioRepository = funcionarioRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
+        this.loginThrottle = loginThrottle;
     }
 
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientAddress) {
         if (request.email() == null || request.email().isBlank()) {
             throw new IllegalArgumentException("Email is required.");
         }
@@ -38,12 +44,19 @@ public class AuthService {
             throw new IllegalArgumentException("Password is required.");
         }
 
+        loginThrottle.checkAttempt(request.email(), clientAddress);
+
         UserModel user = userRepository.findByEmailIgnoreCase(request.email().trim())
                 .orElseThrow(() -> new NoSuchElementException("Invalid email or password."));
 
         if (!passwordMatches(request.password(), user.getPassword())) {
             throw new NoSuchElementException("Invalid email or password.");
         }
+        if (!isBcryptHash(user.getPassword())) {
+            // Senha legada em texto puro: troca pelo hash agora que a senha foi confirmada
+            user.setPassword(loginThrottle.hash(() -> passwordEncoder.encode(request.password())));
+            userRepository.save(user);
+        }
 
         FuncionariosModel administrator = funcionarioRepository
                 .findByUserCpfAndRoleAndActiveTrue(user.getCpf(), JobRole.ADMINISTRATOR)
@@ -87,10 +100,17 @@ public class AuthService {
         if (storedPassword == null || storedPassword.isBlank()) {
             return false;
         }
-        if (storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$")) {
-            return passwordEncoder.matches(rawPassword, storedPassword);
+        if (isBcryptHash(storedPassword)) {
+            return loginThrottle.hash(() -> passwordEncoder.matches(rawPassword, storedPassword));
         }
-        return storedPassword.equals(rawPassword);
+        return MessageDigest.isEqual(
+                storedPassword.getBytes(StandardCharsets.UTF_8),
+                rawPassword.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private boolean isBcryptHash(String storedPassword) {
+        return storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$");
     }
 
     public record LoginRequest(
@@ -0,0 +1,212 @@
+package com.java10x.jvaMontagens.service;
+
+import com.java10x.jvaMontagens.config.ReportingBulkhead;
+import com.java10x.jvaMontagens.model.FinancialStatus;
+import com.java10x.jvaMontagens.model.JobRole;
+import com.java10x.jvaMontagens.model.PaymentCategory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Cada leitura em transacao propria; uma falha nao derruba as outras
+@Service
+public class BatchReadService {
+    public static final int MAX_READS = 20;
+
+    private final AuthService authService;
+    private final ClientService clientService;
+    private final ParkService parkService;
+    private final FuncionariosService funcionariosService;
+    private final FinancialService financialService;
+    private final StorageUsageService storageUsageService;
+    private final Executor batchReadExecutor;
+
+    public BatchReadService(
+            AuthService authService,
+            ClientService clientService,
+            ParkService parkService,
+            FuncionariosService funcionariosService,
+            FinancialService financialService,
+            StorageUsageService storageUsageService,
+            @Qualifier("batchReadExecutor") Executor batchReadExecutor
+    ) {
+        this.authService = authService;
+        this.clientService = clientService;
+        this.parkService = parkService;
+        this.funcionariosService = funcionariosService;
+        this.financialService = financialService;
+        this.storageUsageService = storageUsageService;
+        this.batchReadExecutor = batchReadExecutor;
+    }
+
+    public Map<String, ReadResult> readAll(Map<String, ReadRequest> reads, String adminCpf) {
+        if (reads == null || reads.isEmpty()) {
+            throw new IllegalArgumentException("At least one read is required.");
+        }
+        if (reads.size() > MAX_READS) {
+            throw new IllegalArgumentException("A batch accepts at most " + MAX_READS + " reads.");
+        }
+
+        Map<String, CompletableFuture<ReadResult>> pending = new LinkedHashMap<>();
+        reads.forEach((name, read) -> pending.put(
+                name,
+                CompletableFuture.supplyAsync(() -> read(read, adminCpf), batchReadExecutor)
+        ));
+
+        Map<String, ReadResult> results = new LinkedHashMap<>();
+        pending.forEach((name, result) -> results.put(name, result.join()));
+        return results;
+    }
+
+    private ReadResult read(ReadRequest read, String adminCpf) {
+        try {
+            return new ReadResult(200, resolve(read, adminCpf), null);
+        } catch (IllegalArgumentException ex) {
+            return new ReadResult(400, null, ex.getMessage());
+        } catch (NoSuchElementException ex) {
+            return new ReadResult(404, null, ex.getMessage());
+        } catch (SecurityException ex) {
+            return new ReadResult(403, null, ex.getMessage());
+        } catch (IllegalStateException ex) {
+            return new ReadResult(409, null, ex.getMessage());
+        } catch (RuntimeException ex) {
+            return new ReadResult(500, null, "Erro interno ao processar requisicao.");
+        }
+    }
+
+    private Object resolve(ReadRequest read, String adminCpf) {
+        if (read == null || read.resource() == null || read.resource().isBlank()) {
+            throw new IllegalArgumentException("resource is required.");
+        }
+        Map<String, String> params = read.params() == null ? Map.of() : read.params();
+
+        return switch (read.resource()) {
+            case "me" -> authService.getCurrentAdmin(adminCpf);
+            case "clients" -> clientService.listClients(intParam(params, "limit"), params.get("cursor"));
+            case "parks" -> parkService.listParks(params.get("clientCnpj"), intParam(params, "limit"), params.get("cursor"));
+            case "employees" -> funcionariosService.listFuncionarios(
+                    enumParam(params, "role", JobRole.class),
+                    booleanParam(params, "active"),
+                    intParam(params, "limit"),
+                    params.get("cursor")
+            );
+            case "periods" -> financialService.listPeriods(new FinancialService.PeriodListQuery(
+                    longParam(params, "parkId"),
+                    intParam(params, "year"),
+                    enumParam(params, "status", FinancialStatus.class),
+                    intParam(params, "limit"),
+                    params.get("cursor")
+            ));
+            case "period" -> financialService.getPeriodItem(requiredLongParam(params, "periodId"));
+            case "periodSummary" -> ReportingBulkhead.call(
+                    () -> financialService.calculateSummary(requiredLongParam(params, "periodId"))
+            );
+            case "periodServices" -> financialService.listServiceEntries(
+                    requiredLongParam(params, "periodId"),
+                    intParam(params, "limit"),
+                    params.get("cursor")
+            );
+            case "periodPayments" -> financialService.listPaymentEntries(
+                    requiredLongParam(params, "periodId"),
+                    new FinancialService.PaymentListQuery(
+                            enumParam(params, "category", PaymentCategory.class),
+                            dateParam(params, "paidFrom"),
+                            dateParam(params, "paidTo"),
+                            intParam(params, "limit"),
+                            params.get("cursor")
+                    )
+            );
+            case "parkOverview" -> ReportingBulkhead.call(
+                    () -> financialService.calculateParkOverview(requiredLongParam(params, "parkId"))
+            );
+            case "carRentalSummary" -> ReportingBulkhead.call(
+                    () -> financialService.summarizeCarRental(longParam(params, "parkId"))
+            );
+            case "storageUsage" -> storageUsageService.listUsage();
+            default -> throw new IllegalArgumentException("Unknown resource " + read.resource() + ".");
+        };
+    }
+
+    private static Long requiredLongParam(Map<String, String> params, String name) {
+        Long value = longParam(params, name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required.");
+        }
+        return value;
+    }
+
+    private static Long longParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " must be a number.");
+        }
+    }
+
+    private static Integer intParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " must be a number.");
+        }
+    }
+
+    private static Boolean booleanParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    private static LocalDate dateParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(name + " must be a date (yyyy-MM-dd).");
+        }
+    }
+
+    private static <E extends Enum<E>> E enumParam(Map<String, String> params, String name, Class<E> type) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + name + " " + value + ".");
+        }
+    }
+
+    public record ReadRequest(
+            String resource,
+            Map<String, String> params
+    ) {}
+
+    public record ReadResult(
+            int status,
+            Object body,
+            String message
+    ) {}
+}
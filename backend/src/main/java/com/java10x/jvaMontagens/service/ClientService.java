@@ -2,7 +2,9 @@ package com.java10x.jvaMontagens.service;
 
 import com.java10x.jvaMontagens.model.ClientModel;
 import com.java10x.jvaMontagens.repository.ClientRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -10,9 +12,17 @@ import java.util.NoSuchElementException;
 @Service
 public class ClientService {
     private final ClientRepository clientRepository;
+    private final StorageUsageService storageUsageService;
+    private final SearchService searchService;
 
-    public ClientService(ClientRepository clientRepository) {
+    public ClientService(
+            ClientRepository clientRepository,
+            StorageUsageService storageUsageService,
+            SearchService searchService
+    ) {
         this.clientRepository = clientRepository;
+        this.storageUsageService = storageUsageService;
+        this.searchService = searchService;
     }
 
     public ClientModel createClient(ClientModel client) {
@@ -26,11 +36,25 @@ public class ClientService {
         if (clientRepository.existsById(client.getCnpj())) {
             throw new IllegalArgumentException("Client with CNPJ " + client.getCnpj() + " already exists.");
         }
-        return clientRepository.save(client);
+        ClientModel saved = clientRepository.save(client);
+        searchService.indexClient(saved);
+        return saved;
     }
 
-    public List<ClientModel> listClients() {
-        return clientRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<ClientItem> listClients(Integer limit, String cursor) {
+        int pageLimit = CursorPage.normalizeLimit(limit);
+        String afterName = "";
+        String afterCnpj = "";
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorPage.decodeCursor(cursor, 2);
+            afterName = keys[0];
+            afterCnpj = keys[1];
+        }
+
+        List<ClientModel> rows = clientRepository.findPage(afterName, afterCnpj, PageRequest.of(0, pageLimit + 1));
+        return CursorPage.of(rows, pageLimit, client -> CursorPage.encodeCursor(client.getName(), client.getCnpj()))
+                .map(ClientItem::from);
     }
 
     public ClientModel getByCnpj(String cnpj) {
@@ -53,13 +77,29 @@ public class ClientService {
         if (updates.getEmail() != null) {
             existing.setEmail(updates.getEmail());
         }
-        return clientRepository.save(existing);
+        ClientModel saved = clientRepository.save(existing);
+        searchService.indexClient(saved);
+        return saved;
     }
 
+    @Transactional
     public void deleteClient(String cnpj) {
         String normalizedCnpj = DocumentUtils.normalizeCnpj(cnpj);
         ClientModel existing = clientRepository.findById(normalizedCnpj)
                 .orElseThrow(() -> new NoSuchElementException("Client not found for CNPJ " + normalizedCnpj));
+        storageUsageService.forgetClient(existing.getCnpj());
         clientRepository.delete(existing);
+        searchService.removeClient(existing.getCnpj());
+    }
+
+    public record ClientItem(
+            String cnpj,
+            String name,
+            String contactPhone,
+            String email
+    ) {
+        public static ClientItem from(ClientModel client) {
+            return new ClientItem(client.getCnpj(), client.getName(), client.getContactPhone(), client.getEmail());
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.java10x.jvaMontagens.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String SEPARATOR = "|";
+
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        return limit;
+    }
+
+    // A consulta traz limit + 1 linhas; a extra so indica que ha proxima pagina
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public static String encodeCursor(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // So a primeira chave pode ser texto livre, entao separa a partir do fim
+    public static String[] decodeCursor(String cursor, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = splitFromEnd(raw, keyCount);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            return keys;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    public static int intKey(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    public static long longKey(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    public static LocalDate dateKey(String key) {
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    private static String[] splitFromEnd(String raw, int keyCount) {
+        String[] keys = new String[keyCount];
+        String remaining = raw;
+        for (int i = keyCount - 1; i > 0; i--) {
+            int separator = remaining.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return new String[0];
+            }
+            keys[i] = remaining.substring(separator + 1);
+            remaining = remaining.substring(0, separator);
+        }
+        keys[0] = remaining;
+        return keys;
+    }
+}
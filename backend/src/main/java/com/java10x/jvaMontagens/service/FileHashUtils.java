@@ -0,0 +1,42 @@
+package com.java10x.jvaMontagens.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class FileHashUtils {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private FileHashUtils() {
+    }
+
+    public static String sha256Hex(byte[] data) {
+        MessageDigest digest = newSha256();
+        return toHex(digest.digest(data));
+    }
+
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+
+    public static String toHex(byte[] hash) {
+        return HexFormat.of().formatHex(hash);
+    }
+}
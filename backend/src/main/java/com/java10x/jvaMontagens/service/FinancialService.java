@@ -2,21 +2,33 @@ package com.java10x.jvaMontagens.service;
 
 import com.java10x.jvaMontagens.model.*;
 import com.java10x.jvaMontagens.repository.*;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipOutputStream;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class FinancialService {
     private final FinancialRepository financialRepository;
     private final ParkRepository parkRepository;
@@ -24,6 +36,9 @@ public class FinancialService {
     private final ClientRepository clientRepository;
     private final ServiceEntryRepository serviceEntryRepository;
     private final PaymentEntryRepository paymentEntryRepository;
+    private final StorageUsageService storageUsageService;
+    private final SearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FinancialService(
             FinancialRepository financialRepository,
@@ -31,7 +46,10 @@ public class FinancialService {
             FuncionarioRepository funcionarioRepository,
             ClientRepository clientRepository,
             ServiceEntryRepository serviceEntryRepository,
-            PaymentEntryRepository paymentEntryRepository
+            PaymentEntryRepository paymentEntryRepository,
+            StorageUsageService storageUsageService,
+            SearchService searchService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.financialRepository = financialRepository;
         this.parkRepository = parkRepository;
@@ -39,9 +57,13 @@ public class FinancialService {
         this.clientRepository = clientRepository;
         this.serviceEntryRepository = serviceEntryRepository;
         this.paymentEntryRepository = paymentEntryRepository;
+        this.storageUsageService = storageUsageService;
+        this.searchService = searchService;
+        this.eventPublisher = eventPublisher;
     }
 
-    public FinancialModel createFinancialPeriod(CreateFinancialPeriodInput input) {
+    @Transactional
+    public PeriodItem createFinancialPeriod(CreateFinancialPeriodInput input) {
         validateMonth(input.month());
         validateYear(input.year());
 
@@ -79,14 +101,35 @@ public class FinancialService {
         financial.setCarRentalValue(carRentalValue);
         financial.setStatus(input.status() == null ? FinancialStatus.OPEN : input.status());
 
-        return financialRepository.save(financial);
+        FinancialModel saved = financialRepository.save(financial);
+        publishPeriodChanged(saved);
+        return PeriodItem.from(saved);
     }
 
-    public List<FinancialModel> listPeriods(Long parkId) {
-        if (parkId != null) {
-            return financialRepository.findByParkIdOrderByYearDescMonthDesc(parkId);
+    @Transactional(readOnly = true)
+    public CursorPage<PeriodItem> listPeriods(PeriodListQuery query) {
+        int limit = CursorPage.normalizeLimit(query.limit());
+        int afterYear = Integer.MAX_VALUE;
+        int afterMonth = Integer.MAX_VALUE;
+        long afterId = Long.MAX_VALUE;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            String[] keys = CursorPage.decodeCursor(query.cursor(), 3);
+            afterYear = CursorPage.intKey(keys[0]);
+            afterMonth = CursorPage.intKey(keys[1]);
+            afterId = CursorPage.longKey(keys[2]);
         }
-        return financialRepository.findAll();
+
+        List<FinancialModel> rows = financialRepository.findPage(
+                query.parkId(),
+                query.year(),
+                query.status(),
+                afterYear,
+                afterMonth,
+                afterId,
+                PageRequest.of(0, limit + 1)
+        );
+        return CursorPage.of(rows, limit, period -> CursorPage.encodeCursor(period.getYear(), period.getMonth(), period.getId()))
+                .map(PeriodItem::from);
     }
 
     public FinancialModel getPeriod(Long financialId) {
@@ -94,17 +137,61 @@ public class FinancialService {
                 .orElseThrow(() -> new NoSuchElementException("Financial period not found for id " + financialId));
     }
 
-    public List<ServiceEntryModel> listServiceEntries(Long financialId) {
+    @Transactional(readOnly = true)
+    public PeriodItem getPeriodItem(Long financialId) {
+        return financialRepository.findDetailedById(financialId)
+                .map(PeriodItem::from)
+                .orElseThrow(() -> new NoSuchElementException("Financial period not found for id " + financialId));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceEntryItem> listServiceEntries(Long financialId, Integer limit, String cursor) {
         getPeriod(financialId);
-        return serviceEntryRepository.findByFinancialId(financialId);
+        int pageLimit = CursorPage.normalizeLimit(limit);
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            afterId = CursorPage.longKey(CursorPage.decodeCursor(cursor, 1)[0]);
+        }
+
+        List<ServiceEntryModel> rows = serviceEntryRepository.findPage(financialId, afterId, PageRequest.of(0, pageLimit + 1));
+        CursorPage<ServiceEntryModel> page = CursorPage.of(rows, pageLimit, service -> CursorPage.encodeCursor(service.getId()));
+        if (!page.items().isEmpty()) {
+            serviceEntryRepository.fetchHelpers(page.items().stream().map(ServiceEntryModel::getId).toList());
+        }
+        return page.map(ServiceEntryItem::from);
     }
 
-    public List<PaymentEntryModel> listPaymentEntries(Long financialId) {
+    @Transactional(readOnly = true)
+    public CursorPage<PaymentEntryItem> listPaymentEntries(Long financialId, PaymentListQuery query) {
         getPeriod(financialId);
-        return paymentEntryRepository.findByFinancialId(financialId);
+        if (query.paidFrom() != null && query.paidTo() != null && query.paidTo().isBefore(query.paidFrom())) {
+            throw new IllegalArgumentException("paidTo cannot be before paidFrom.");
+        }
+
+        int limit = CursorPage.normalizeLimit(query.limit());
+        LocalDate afterDate = LocalDate.of(1, 1, 1);
+        long afterId = 0L;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            String[] keys = CursorPage.decodeCursor(query.cursor(), 2);
+            afterDate = CursorPage.dateKey(keys[0]);
+            afterId = CursorPage.longKey(keys[1]);
+        }
+
+        List<PaymentEntryRepository.PaymentRow> rows = paymentEntryRepository.findPage(
+                financialId,
+                query.category(),
+                query.paidFrom(),
+                query.paidTo(),
+                afterDate,
+                afterId,
+                PageRequest.of(0, limit + 1)
+        );
+        return CursorPage.of(rows, limit, payment -> CursorPage.encodeCursor(payment.getPaymentDate(), payment.getId()))
+                .map(PaymentEntryItem::from);
     }
 
-    public ServiceEntryModel addServiceEntry(Long financialId, CreateServiceEntryInput input) {
+    @Transactional
+    public ServiceEntryItem addServiceEntry(Long financialId, CreateServiceEntryInput input) {
         FinancialModel financial = getPeriod(financialId);
         FuncionariosModel leader = resolveLeaderForService(financial, input.leaderId());
 
@@ -171,10 +258,13 @@ public class FinancialService {
             }
         }
 
-        return serviceEntryRepository.save(serviceEntry);
+        ServiceEntryModel saved = serviceEntryRepository.save(serviceEntry);
+        publishPeriodChanged(financial);
+        return ServiceEntryItem.from(saved);
     }
 
-    public PaymentEntryModel addPaymentEntry(Long financialId, CreatePaymentEntryInput input) {
+    @Transactional
+    public PaymentEntryItem addPaymentEntry(Long financialId, CreatePaymentEntryInput input) {
         FinancialModel financial = getPeriod(financialId);
         PaymentCategory category = input.category() == null ? PaymentCategory.OTHER : input.category();
         FuncionariosModel employee = resolvePaymentEmployee(category, input.employeeId());
@@ -203,13 +293,16 @@ public class FinancialService {
         payment.setClient(client);
         payment.setHasReceipt(false);
 
-        return paymentEntryRepository.save(payment);
+        PaymentEntryModel saved = paymentEntryRepository.save(payment);
+        searchService.indexPayment(saved);
+        publishPeriodChanged(saved.getFinancial());
+        return PaymentEntryItem.from(saved);
     }
 
     @Transactional(readOnly = true)
     public FinancialSummary calculateSummary(Long financialId) {
         FinancialModel financial = getPeriod(financialId);
-        return calculateSummaryForPeriod(financial);
+        return calculateSummaries(List.of(financial)).get(financialId);
     }
 
     @Transactional(readOnly = true)
@@ -218,9 +311,10 @@ public class FinancialService {
                 .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
 
         List<FinancialModel> periods = financialRepository.findByParkIdOrderByYearDescMonthDesc(parkId);
+        Map<Long, FinancialSummary> summaries = calculateSummaries(periods);
         List<ParkPeriodSummary> periodsSummary = periods.stream()
                 .map(period -> {
-                    FinancialSummary summary = calculateSummaryForPeriod(period);
+                    FinancialSummary summary = summaries.get(period.getId());
                     return new ParkPeriodSummary(
                             period.getId(),
                             period.getYear(),
@@ -257,6 +351,41 @@ public class FinancialService {
         );
     }
 
+    // Valida antes do streaming para o erro ainda ter status proprio
+    @Transactional(readOnly = true)
+    public ParkLedger prepareParkLedger(Long parkId, LocalDate paidFrom, LocalDate paidTo) {
+        if (!parkRepository.existsById(parkId)) {
+            throw new NoSuchElementException("Park not found for id " + parkId);
+        }
+        if (paidFrom != null && paidTo != null && paidTo.isBefore(paidFrom)) {
+            throw new IllegalArgumentException("paidTo cannot be before paidFrom.");
+        }
+        return new ParkLedger(parkId, paidFrom, paidTo);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeParkLedger(ParkLedger ledger, Consumer<LedgerEntry> sink) {
+        try (Stream<PaymentEntryRepository.LedgerRow> rows =
+                     paymentEntryRepository.streamLedgerByParkId(ledger.parkId(), ledger.paidFrom(), ledger.paidTo())) {
+            rows.forEach(row -> sink.accept(new LedgerEntry(
+                    row.getId(),
+                    row.getPeriodId(),
+                    row.getYear(),
+                    row.getMonth(),
+                    row.getPaymentDate(),
+                    row.getName(),
+                    row.getInvoiceNumber(),
+                    row.getCategory(),
+                    row.getAmount(),
+                    row.getEmployeeId(),
+                    row.getEmployeeName(),
+                    row.getClientCnpj(),
+                    row.getClientName(),
+                    Boolean.TRUE.equals(row.getHasReceipt())
+            )));
+        }
+    }
+
     @Transactional(readOnly = true)
     public CarRentalSummary summarizeCarRental(Long parkId) {
         ParkModel park = null;
@@ -266,7 +395,7 @@ public class FinancialService {
                     .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
             periods = financialRepository.findByParkIdOrderByYearDescMonthDesc(parkId);
         } else {
-            periods = financialRepository.findAll();
+            periods = financialRepository.findAllWithPark();
         }
 
         Map<YearMonth, BigDecimal> monthlyTotals = new TreeMap<>(Comparator.reverseOrder());
@@ -329,10 +458,40 @@ public class FinancialService {
         );
     }
 
-    private FinancialSummary calculateSummaryForPeriod(FinancialModel financial) {
+    // Numero fixo de consultas para qualquer quantidade de periodos
+    private Map<Long, FinancialSummary> calculateSummaries(List<FinancialModel> periods) {
+        Map<Long, FinancialSummary> summaries = new HashMap<>();
+        if (periods.isEmpty()) {
+            return summaries;
+        }
+        List<Long> financialIds = periods.stream().map(FinancialModel::getId).toList();
+
+        List<ServiceEntryModel> services = serviceEntryRepository.findWithLeaderByFinancialIdIn(financialIds);
+        if (!services.isEmpty()) {
+            serviceEntryRepository.fetchHelpers(services.stream().map(ServiceEntryModel::getId).toList());
+        }
+        Map<Long, List<ServiceEntryModel>> servicesByPeriod = services.stream()
+                .collect(Collectors.groupingBy(service -> service.getFinancial().getId()));
+        Map<Long, List<PaymentEntryRepository.PaymentTotals>> paymentsByPeriod =
+                paymentEntryRepository.sumAmountsByFinancialIdIn(financialIds).stream()
+                        .collect(Collectors.groupingBy(PaymentEntryRepository.PaymentTotals::getFinancialId));
+
+        for (FinancialModel period : periods) {
+            summaries.put(period.getId(), calculateSummaryForPeriod(
+                    period,
+                    servicesByPeriod.getOrDefault(period.getId(), List.of()),
+                    paymentsByPeriod.getOrDefault(period.getId(), List.of())
+            ));
+        }
+        return summaries;
+    }
+
+    private FinancialSummary calculateSummaryForPeriod(
+            FinancialModel financial,
+            List<ServiceEntryModel> services,
+            List<PaymentEntryRepository.PaymentTotals> payments
+    ) {
         Long financialId = financial.getId();
-        List<ServiceEntryModel> services = serviceEntryRepository.findByFinancialId(financialId);
-        List<PaymentEntryModel> payments = paymentEntryRepository.findByFinancialId(financialId);
 
         BigDecimal totalMeters = services.stream()
                 .map(ServiceEntryModel::getMeters)
@@ -399,14 +558,18 @@ public class FinancialService {
 
         BigDecimal clientPaymentsReceived = payments.stream()
                 .filter(payment -> payment.getCategory() == PaymentCategory.CLIENT_PAYMENT)
-                .map(PaymentEntryModel::getAmount)
+                .map(PaymentEntryRepository.PaymentTotals::getTotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BigDecimal additionalPayments = payments.stream()
                 .filter(payment -> payment.getCategory() != PaymentCategory.CLIENT_PAYMENT)
-                .map(PaymentEntryModel::getAmount)
+                .map(PaymentEntryRepository.PaymentTotals::getTotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
+        int totalPayments = payments.stream()
+                .mapToInt(payment -> payment.getPaymentCount().intValue())
+                .sum();
+
         BigDecimal carRentalIncome = zeroIfNull(financial.getCarRentalValue());
         BigDecimal expectedClientBilling = grossRevenue.add(carRentalIncome).setScale(2, RoundingMode.HALF_UP);
         BigDecimal clientBalancePending = expectedClientBilling
@@ -432,7 +595,7 @@ public class FinancialService {
         return new FinancialSummary(
                 financialId,
                 services.size(),
-                payments.size(),
+                totalPayments,
                 totalMeters.setScale(2, RoundingMode.HALF_UP),
                 grossRevenue.setScale(2, RoundingMode.HALF_UP),
                 helpersCost.setScale(2, RoundingMode.HALF_UP),
@@ -563,12 +726,16 @@ public class FinancialService {
         return taxRate.setScale(4, RoundingMode.HALF_UP);
     }
 
+    private void publishPeriodChanged(FinancialModel financial) {
+        eventPublisher.publishEvent(new SummaryPushService.PeriodChanged(financial.getId(), financial.getPark().getId()));
+    }
+
     private BigDecimal zeroIfNull(BigDecimal value) {
         return value == null ? BigDecimal.ZERO : value;
     }
 
     @Transactional
-    public FinancialModel updatePeriod(Long periodId, UpdateFinancialPeriodInput input) {
+    public PeriodItem updatePeriod(Long periodId, UpdateFinancialPeriodInput input) {
         FinancialModel financial = getPeriod(periodId);
         BigDecimal newLeaderPricePerMeter = input.leaderPricePerMeter() != null
                 ? input.leaderPricePerMeter()
@@ -612,17 +779,28 @@ public class FinancialService {
             serviceEntryRepository.saveAll(services);
         }
 
-        return financialRepository.save(financial);
+        FinancialModel saved = financialRepository.save(financial);
+        publishPeriodChanged(saved);
+        return PeriodItem.from(saved);
     }
 
     @Transactional
     public void deletePeriod(Long periodId) {
         FinancialModel financial = getPeriod(periodId);
+        ParkStorageUsageRepository.StorageTotals receipts =
+                paymentEntryRepository.sumReceiptsByFinancialId(financial.getId());
         financialRepository.delete(financial);
+        storageUsageService.recordReceiptsRemoved(
+                financial.getPark().getId(),
+                receipts.getTotalBytes(),
+                receipts.getFileCount()
+        );
+        searchService.removePeriod(financial.getId());
+        publishPeriodChanged(financial);
     }
 
     @Transactional
-    public ServiceEntryModel updateServiceEntry(Long serviceId, UpdateServiceEntryInput input) {
+    public ServiceEntryItem updateServiceEntry(Long serviceId, UpdateServiceEntryInput input) {
         ServiceEntryModel service = serviceEntryRepository.findById(serviceId)
                 .orElseThrow(() -> new NoSuchElementException("Service entry not found for id " + serviceId));
 
@@ -654,7 +832,9 @@ public class FinancialService {
             throw new IllegalArgumentException("leaderId is required when leaderPricePerMeter is greater than zero.");
         }
 
-        return serviceEntryRepository.save(service);
+        ServiceEntryModel saved = serviceEntryRepository.save(service);
+        publishPeriodChanged(saved.getFinancial());
+        return ServiceEntryItem.from(saved);
     }
 
     @Transactional
@@ -662,10 +842,11 @@ public class FinancialService {
         ServiceEntryModel service = serviceEntryRepository.findById(serviceId)
                 .orElseThrow(() -> new NoSuchElementException("Service entry not found for id " + serviceId));
         serviceEntryRepository.delete(service);
+        publishPeriodChanged(service.getFinancial());
     }
 
     @Transactional
-    public PaymentEntryModel updatePaymentEntry(Long paymentId, UpdatePaymentEntryInput input) {
+    public PaymentEntryItem updatePaymentEntry(Long paymentId, UpdatePaymentEntryInput input) {
         PaymentEntryModel payment = paymentEntryRepository.findById(paymentId)
                 .orElseThrow(() -> new NoSuchElementException("Payment entry not found for id " + paymentId));
 
@@ -697,7 +878,10 @@ public class FinancialService {
         }
         payment.setClient(client);
 
-        return paymentEntryRepository.save(payment);
+        PaymentEntryModel saved = paymentEntryRepository.save(payment);
+        searchService.indexPayment(saved);
+        publishPeriodChanged(saved.getFinancial());
+        return PaymentEntryItem.from(saved);
     }
 
     @Transactional
@@ -705,10 +889,19 @@ public class FinancialService {
         PaymentEntryModel payment = paymentEntryRepository.findById(paymentId)
                 .orElseThrow(() -> new NoSuchElementException("Payment entry not found for id " + paymentId));
         paymentEntryRepository.delete(payment);
+        searchService.removePayment(payment.getId());
+        publishPeriodChanged(payment.getFinancial());
+        if (Boolean.TRUE.equals(payment.getHasReceipt())) {
+            storageUsageService.recordReceiptsRemoved(
+                    payment.getFinancial().getPark().getId(),
+                    payment.getReceiptSize() == null ? 0L : payment.getReceiptSize(),
+                    1L
+            );
+        }
     }
 
     @Transactional
-    public PaymentEntryModel uploadPaymentReceipt(
+    public PaymentEntryItem uploadPaymentReceipt(
             Long paymentId,
             String originalFilename,
             String contentType,
@@ -727,13 +920,29 @@ public class FinancialService {
         String normalizedContentType = normalizeReceiptContentType(contentType, originalFilename);
         String normalizedFileName = normalizeReceiptFileName(originalFilename, normalizedContentType, paymentId);
 
+        Long previousReceiptSize = Boolean.TRUE.equals(payment.getHasReceipt())
+                ? (payment.getReceiptSize() == null ? 0L : payment.getReceiptSize())
+                : null;
+
         payment.setReceiptBytes(data);
         payment.setReceiptFileName(normalizedFileName);
         payment.setReceiptContentType(normalizedContentType);
         payment.setReceiptSize((long) data.length);
+        payment.setReceiptHash(FileHashUtils.sha256Hex(data));
         payment.setHasReceipt(true);
 
-        return paymentEntryRepository.save(payment);
+        PaymentEntryModel saved = paymentEntryRepository.save(payment);
+        storageUsageService.recordReceiptReplaced(
+                payment.getFinancial().getPark().getId(),
+                previousReceiptSize,
+                data.length
+        );
+        return PaymentEntryItem.from(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public String findPaymentReceiptHash(Long paymentId) {
+        return paymentEntryRepository.findReceiptHashById(paymentId).orElse(null);
     }
 
     @Transactional(readOnly = true)
@@ -752,7 +961,49 @@ public class FinancialService {
                 : payment.getReceiptContentType();
 
         String fileName = normalizeReceiptFileName(payment.getReceiptFileName(), contentType, paymentId);
-        return new PaymentReceiptFile(fileName, contentType, payment.getReceiptBytes());
+        String contentHash = payment.getReceiptHash() == null
+                ? FileHashUtils.sha256Hex(payment.getReceiptBytes())
+                : payment.getReceiptHash();
+        return new PaymentReceiptFile(fileName, contentType, payment.getReceiptBytes(), contentHash);
+    }
+
+    @Transactional(readOnly = true)
+    public ReceiptArchive prepareReceiptArchive(Long financialId) {
+        FinancialModel financial = getPeriod(financialId);
+
+        List<ReceiptArchiveEntry> entries = paymentEntryRepository.findReceiptMetadataByFinancialId(financialId).stream()
+                .map(receipt -> {
+                    String contentType = receipt.getReceiptContentType() == null || receipt.getReceiptContentType().isBlank()
+                            ? "application/octet-stream"
+                            : receipt.getReceiptContentType();
+                    String fileName = normalizeReceiptFileName(receipt.getReceiptFileName(), contentType, receipt.getId());
+                    return new ReceiptArchiveEntry(
+                            receipt.getId(),
+                            receipt.getPaymentDate() + "_" + receipt.getId() + "_" + fileName,
+                            contentType
+                    );
+                })
+                .toList();
+
+        String archiveName = "park-" + financial.getPark().getId()
+                + "-" + financial.getYear()
+                + "-" + String.format("%02d", financial.getMonth())
+                + "-receipts.zip";
+        return new ReceiptArchive(archiveName, entries);
+    }
+
+    // Recibos removidos depois da preparacao do arquivo sao pulados
+    public void writeReceiptArchive(ReceiptArchive archive, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        for (ReceiptArchiveEntry entry : archive.entries()) {
+            Optional<byte[]> receiptBytes = paymentEntryRepository.findReceiptBytesById(entry.paymentId());
+            if (receiptBytes.isEmpty()) {
+                continue;
+            }
+            ZipArchiveUtils.writeEntry(zip, entry.entryName(), entry.contentType(), receiptBytes.get());
+            zip.flush();
+        }
+        zip.finish();
     }
 
     private String normalizeReceiptContentType(String contentType, String fileName) {
@@ -788,6 +1039,171 @@ public class FinancialService {
         return candidate.replaceAll("[\\r\\n\\\\/]+", "_");
     }
 
+    public record EmployeeRef(
+            Long id,
+            String name,
+            JobRole role
+    ) {
+        public static EmployeeRef from(FuncionariosModel employee) {
+            return employee == null ? null : new EmployeeRef(employee.getId(), employee.getName(), employee.getRole());
+        }
+    }
+
+    public record PeriodItem(
+            Long id,
+            Integer year,
+            Integer month,
+            BigDecimal jvaPricePerMeter,
+            BigDecimal leaderPricePerMeter,
+            BigDecimal taxRate,
+            BigDecimal carRentalValue,
+            FinancialStatus status,
+            ParkService.ParkItem park,
+            EmployeeRef administrator
+    ) {
+        public static PeriodItem from(FinancialModel financial) {
+            return new PeriodItem(
+                    financial.getId(),
+                    financial.getYear(),
+                    financial.getMonth(),
+                    financial.getJvaPricePerMeter(),
+                    financial.getLeaderPricePerMeter(),
+                    financial.getTaxRate(),
+                    financial.getCarRentalValue(),
+                    financial.getStatus(),
+                    ParkService.ParkItem.from(financial.getPark()),
+                    EmployeeRef.from(financial.getAdministrator())
+            );
+        }
+    }
+
+    public record ServiceHelperItem(
+            Long id,
+            EmployeeRef employee,
+            BigDecimal dailyRateUsed,
+            Integer daysUsed,
+            BigDecimal totalCost
+    ) {
+        public static ServiceHelperItem from(ServiceHelperModel helper) {
+            return new ServiceHelperItem(
+                    helper.getId(),
+                    EmployeeRef.from(helper.getEmployee()),
+                    helper.getDailyRateUsed(),
+                    helper.getDaysUsed(),
+                    helper.getTotalCost()
+            );
+        }
+    }
+
+    public record ServiceEntryItem(
+            Long id,
+            ServiceType serviceType,
+            String teamType,
+            EmployeeRef leader,
+            BigDecimal meters,
+            BigDecimal unitPrice,
+            BigDecimal grossValue,
+            String notes,
+            LocalDate startDate,
+            LocalDate endDate,
+            Integer days,
+            List<ServiceHelperItem> helpers
+    ) {
+        public static ServiceEntryItem from(ServiceEntryModel service) {
+            return new ServiceEntryItem(
+                    service.getId(),
+                    service.getServiceType(),
+                    service.getTeamType(),
+                    EmployeeRef.from(service.getLeader()),
+                    service.getMeters(),
+                    service.getUnitPrice(),
+                    service.getGrossValue(),
+                    service.getNotes(),
+                    service.getStartDate(),
+                    service.getEndDate(),
+                    service.getDays(),
+                    service.getHelpers().stream().map(ServiceHelperItem::from).toList()
+            );
+        }
+    }
+
+    public record PaymentEntryItem(
+            Long id,
+            LocalDate paymentDate,
+            String name,
+            String invoiceNumber,
+            BigDecimal amount,
+            PaymentCategory category,
+            String notes,
+            EmployeeRef employee,
+            ClientService.ClientItem client,
+            Boolean hasReceipt,
+            String receiptFileName,
+            String receiptContentType,
+            Long receiptSize
+    ) {
+        public static PaymentEntryItem from(PaymentEntryModel payment) {
+            return new PaymentEntryItem(
+                    payment.getId(),
+                    payment.getPaymentDate(),
+                    payment.getName(),
+                    payment.getInvoiceNumber(),
+                    payment.getAmount(),
+                    payment.getCategory(),
+                    payment.getNotes(),
+                    EmployeeRef.from(payment.getEmployee()),
+                    payment.getClient() == null ? null : ClientService.ClientItem.from(payment.getClient()),
+                    payment.getHasReceipt(),
+                    payment.getReceiptFileName(),
+                    payment.getReceiptContentType(),
+                    payment.getReceiptSize()
+            );
+        }
+
+        public static PaymentEntryItem from(PaymentEntryRepository.PaymentRow row) {
+            return new PaymentEntryItem(
+                    row.getId(),
+                    row.getPaymentDate(),
+                    row.getName(),
+                    row.getInvoiceNumber(),
+                    row.getAmount(),
+                    row.getCategory(),
+                    row.getNotes(),
+                    row.getEmployeeId() == null
+                            ? null
+                            : new EmployeeRef(row.getEmployeeId(), row.getEmployeeName(), row.getEmployeeRole()),
+                    row.getClientCnpj() == null
+                            ? null
+                            : new ClientService.ClientItem(
+                                    row.getClientCnpj(),
+                                    row.getClientName(),
+                                    row.getClientContactPhone(),
+                                    row.getClientEmail()
+                            ),
+                    row.getHasReceipt(),
+                    row.getReceiptFileName(),
+                    row.getReceiptContentType(),
+                    row.getReceiptSize()
+            );
+        }
+    }
+
+    public record PeriodListQuery(
+            Long parkId,
+            Integer year,
+            FinancialStatus status,
+            Integer limit,
+            String cursor
+    ) {}
+
+    public record PaymentListQuery(
+            PaymentCategory category,
+            LocalDate paidFrom,
+            LocalDate paidTo,
+            Integer limit,
+            String cursor
+    ) {}
+
     public record CreateFinancialPeriodInput(
             Long parkId,
             Integer year,
@@ -912,10 +1328,45 @@ public class FinancialService {
             List<CarRentalPeriodTotal> periodTotals
     ) {}
 
+    public record ParkLedger(
+            Long parkId,
+            LocalDate paidFrom,
+            LocalDate paidTo
+    ) {}
+
+    public record LedgerEntry(
+            Long paymentId,
+            Long periodId,
+            Integer year,
+            Integer month,
+            LocalDate paymentDate,
+            String name,
+            String invoiceNumber,
+            PaymentCategory category,
+            BigDecimal amount,
+            Long employeeId,
+            String employeeName,
+            String clientCnpj,
+            String clientName,
+            boolean hasReceipt
+    ) {}
+
     public record PaymentReceiptFile(
             String fileName,
             String contentType,
-            byte[] data
+            byte[] data,
+            String contentHash
+    ) {}
+
+    public record ReceiptArchive(
+            String fileName,
+            List<ReceiptArchiveEntry> entries
+    ) {}
+
+    public record ReceiptArchiveEntry(
+            Long paymentId,
+            String entryName,
+            String contentType
     ) {}
 
     public record UpdateFinancialPeriodInput(
@@ -5,8 +5,11 @@ import com.java10x.jvaMontagens.model.JobRole;
 import com.java10x.jvaMontagens.model.UserModel;
 import com.java10x.jvaMontagens.repository.FuncionarioRepository;
 import com.java10x.jvaMontagens.repository.UserRepository;
+import com.java10x.jvaMontagens.security.AdminPrincipalCache;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,11 +21,21 @@ public class FuncionariosService {
     private final FuncionarioRepository funcionarioRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public FuncionariosService(FuncionarioRepository funcionarioRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final AdminPrincipalCache adminPrincipalCache;
+    private final SearchService searchService;
+
+    public FuncionariosService(
+            FuncionarioRepository funcionarioRepository,
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            AdminPrincipalCache adminPrincipalCache,
+            SearchService searchService
+    ) {
         this.funcionarioRepository = funcionarioRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.adminPrincipalCache = adminPrincipalCache;
+        this.searchService = searchService;
     }
 
     public FuncionariosModel createFuncionario(FuncionariosModel funcionario) {
@@ -33,11 +46,14 @@ public class FuncionariosService {
             syncAdminUser(funcionario);
         }
 
-        return funcionarioRepository.save(funcionario);
+        FuncionariosModel saved = funcionarioRepository.save(funcionario);
+        searchService.indexEmployee(saved);
+        return saved;
     }
 
     public FuncionariosModel updateFuncionario(Long id, FuncionariosModel updates) {
         FuncionariosModel existing = getById(id);
+        String previousUserCpf = existing.getUser() == null ? null : existing.getUser().getCpf();
 
         if (updates.getName() != null) existing.setName(updates.getName());
         if (updates.getPixKey() != null) existing.setPixKey(updates.getPixKey());
@@ -58,21 +74,29 @@ public class FuncionariosService {
 
         sanitizeAndValidate(existing);
         if (existing.getActive() == null) existing.setActive(true);
-        return funcionarioRepository.save(existing);
-    }
+        FuncionariosModel saved = funcionarioRepository.save(existing);
 
-    public List<FuncionariosModel> listAll(Boolean onlyActive) {
-        if (Boolean.TRUE.equals(onlyActive)) {
-            return funcionarioRepository.findByActiveTrue();
-        }
-        return funcionarioRepository.findAll();
+        // Papel, status ou usuario vinculado podem ter mudado: o proximo request recarrega o principal
+        adminPrincipalCache.invalidate(previousUserCpf);
+        adminPrincipalCache.invalidate(saved.getUser() == null ? null : saved.getUser().getCpf());
+        searchService.indexEmployee(saved);
+        return saved;
     }
 
-    public List<FuncionariosModel> listByRole(JobRole role, Boolean onlyActive) {
-        if (Boolean.TRUE.equals(onlyActive)) {
-            return funcionarioRepository.findByRoleAndActiveTrue(role);
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeItem> listFuncionarios(JobRole role, Boolean active, Integer limit, String cursor) {
+        int pageLimit = CursorPage.normalizeLimit(limit);
+        String afterName = "";
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorPage.decodeCursor(cursor, 2);
+            afterName = keys[0];
+            afterId = CursorPage.longKey(keys[1]);
         }
-        return funcionarioRepository.findByRole(role);
+
+        List<FuncionariosModel> rows = funcionarioRepository.findPage(role, active, afterName, afterId, PageRequest.of(0, pageLimit + 1));
+        return CursorPage.of(rows, pageLimit, funcionario -> CursorPage.encodeCursor(funcionario.getName(), funcionario.getId()))
+                .map(EmployeeItem::from);
     }
 
     public FuncionariosModel getById(Long id) {
@@ -171,4 +195,41 @@ public class FuncionariosService {
         }
         return passwordEncoder.encode(password);
     }
+
+    public record EmployeeItem(
+            Long id,
+            String name,
+            String pixKey,
+            String govEmail,
+            String govPassword,
+            String cpf,
+            JobRole role,
+            BigDecimal dailyRate,
+            BigDecimal pricePerMeter,
+            Boolean active,
+            LinkedUser user
+    ) {
+        public static EmployeeItem from(FuncionariosModel funcionario) {
+            UserModel user = funcionario.getUser();
+            return new EmployeeItem(
+                    funcionario.getId(),
+                    funcionario.getName(),
+                    funcionario.getPixKey(),
+                    funcionario.getGovEmail(),
+                    funcionario.getGovPassword(),
+                    funcionario.getCpf(),
+                    funcionario.getRole(),
+                    funcionario.getDailyRate(),
+                    funcionario.getPricePerMeter(),
+                    funcionario.getActive(),
+                    user == null ? null : new LinkedUser(user.getCpf(), user.getFullName(), user.getEmail())
+            );
+        }
+    }
+
+    public record LinkedUser(
+            String cpf,
+            String fullName,
+            String email
+    ) {}
 }
@@ -0,0 +1,199 @@
+package com.java10x.jvaMontagens.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Directory;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.bmp.BmpHeaderDirectory;
+import com.drew.metadata.exif.ExifDirectoryBase;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.drew.metadata.gif.GifHeaderDirectory;
+import com.drew.metadata.heif.HeifDirectory;
+import com.drew.metadata.jpeg.JpegDirectory;
+import com.drew.metadata.mov.QuickTimeDirectory;
+import com.drew.metadata.mov.media.QuickTimeVideoDirectory;
+import com.drew.metadata.mp4.Mp4Directory;
+import com.drew.metadata.mp4.media.Mp4VideoDirectory;
+import com.drew.metadata.png.PngDirectory;
+import com.drew.metadata.webp.WebpDirectory;
+import com.java10x.jvaMontagens.model.MediaMetadataStatus;
+import com.java10x.jvaMontagens.repository.ParkMediaContentWriter;
+import com.java10x.jvaMontagens.repository.ParkMediaRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+
+// Extracao fora da requisicao; a varredura periodica pega o que a fila descartou
+@Service
+public class MediaMetadataService {
+    private static final TimeZone UTC = TimeZone.getTimeZone(ZoneOffset.UTC);
+
+    // Pares (largura, altura) na ordem de preferencia; EXIF fica por ultimo porque pode vir de miniatura
+    private static final List<DimensionTags> DIMENSION_TAGS = List.of(
+            new DimensionTags(JpegDirectory.class, JpegDirectory.TAG_IMAGE_WIDTH, JpegDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(PngDirectory.class, PngDirectory.TAG_IMAGE_WIDTH, PngDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(GifHeaderDirectory.class, GifHeaderDirectory.TAG_IMAGE_WIDTH, GifHeaderDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(WebpDirectory.class, WebpDirectory.TAG_IMAGE_WIDTH, WebpDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(HeifDirectory.class, HeifDirectory.TAG_IMAGE_WIDTH, HeifDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(BmpHeaderDirectory.class, BmpHeaderDirectory.TAG_IMAGE_WIDTH, BmpHeaderDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(Mp4VideoDirectory.class, Mp4VideoDirectory.TAG_WIDTH, Mp4VideoDirectory.TAG_HEIGHT),
+            new DimensionTags(QuickTimeVideoDirectory.class, QuickTimeVideoDirectory.TAG_WIDTH, QuickTimeVideoDirectory.TAG_HEIGHT),
+            new DimensionTags(ExifSubIFDDirectory.class, ExifDirectoryBase.TAG_EXIF_IMAGE_WIDTH, ExifDirectoryBase.TAG_EXIF_IMAGE_HEIGHT)
+    );
+
+    private final ParkMediaRepository parkMediaRepository;
+    private final ParkMediaContentWriter parkMediaContentWriter;
+    private final Executor mediaMetadataExecutor;
+    private final int sweepBatchSize;
+
+    public MediaMetadataService(
+            ParkMediaRepository parkMediaRepository,
+            ParkMediaContentWriter parkMediaContentWriter,
+            @Qualifier("mediaMetadataExecutor") Executor mediaMetadataExecutor,
+            @Value("${media.metadata.sweep-batch-size:50}") int sweepBatchSize
+    ) {
+        this.parkMediaRepository = parkMediaRepository;
+        this.parkMediaContentWriter = parkMediaContentWriter;
+        this.mediaMetadataExecutor = mediaMetadataExecutor;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    public void extractAsync(List<Long> mediaIds) {
+        for (Long mediaId : mediaIds) {
+            mediaMetadataExecutor.execute(() -> extract(mediaId));
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${media.metadata.sweep-initial-delay:1m}",
+            fixedDelayString = "${media.metadata.sweep-interval:10m}"
+    )
+    public void extractPending() {
+        // Avanca por id: uma linha que continue PENDING nao faz a varredura repetir o mesmo lote
+        long lastId = 0L;
+        List<Long> pending;
+        do {
+            pending = parkMediaRepository.findIdsByMetadataStatus(
+                    MediaMetadataStatus.PENDING,
+                    lastId,
+                    PageRequest.of(0, sweepBatchSize)
+            );
+            pending.forEach(this::extract);
+            if (!pending.isEmpty()) {
+                lastId = pending.get(pending.size() - 1);
+            }
+        } while (pending.size() == sweepBatchSize);
+    }
+
+    public void extract(Long mediaId) {
+        try {
+            Optional<ExtractedMetadata> read = parkMediaContentWriter.readContent(mediaId, this::read);
+            if (read.isEmpty()) {
+                parkMediaRepository.updateMetadata(mediaId, null, null, null, null, MediaMetadataStatus.FAILED);
+                return;
+            }
+            ExtractedMetadata extracted = read.get();
+            parkMediaRepository.updateMetadata(
+                    mediaId,
+                    extracted.width(),
+                    extracted.height(),
+                    extracted.capturedAt(),
+                    extracted.durationMs(),
+                    MediaMetadataStatus.EXTRACTED
+            );
+        } catch (RuntimeException ex) {
+            // Formato nao suportado ou arquivo corrompido: marca para a varredura nao tentar de novo
+            parkMediaRepository.updateMetadata(mediaId, null, null, null, null, MediaMetadataStatus.FAILED);
+        }
+    }
+
+    private ExtractedMetadata read(InputStream content, long size) throws IOException {
+        Metadata metadata;
+        try {
+            metadata = ImageMetadataReader.readMetadata(content, size);
+        } catch (ImageProcessingException ex) {
+            throw new IOException(ex);
+        }
+
+        Integer width = null;
+        Integer height = null;
+        for (DimensionTags tags : DIMENSION_TAGS) {
+            Directory directory = metadata.getFirstDirectoryOfType(tags.directoryType());
+            if (directory != null) {
+                Integer candidateWidth = directory.getInteger(tags.widthTag());
+                Integer candidateHeight = directory.getInteger(tags.heightTag());
+                if (candidateWidth != null && candidateHeight != null && candidateWidth > 0 && candidateHeight > 0) {
+                    width = candidateWidth;
+                    height = candidateHeight;
+                    break;
+                }
+            }
+        }
+
+        return new ExtractedMetadata(width, height, readCapturedAt(metadata), readDurationMs(metadata));
+    }
+
+    private LocalDateTime readCapturedAt(Metadata metadata) {
+        // EXIF guarda a hora local da camera sem fuso; le como UTC para manter o horario de parede
+        ExifSubIFDDirectory exif = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+        if (exif != null && exif.getDateOriginal(UTC) != null) {
+            return LocalDateTime.ofInstant(exif.getDateOriginal(UTC).toInstant(), ZoneOffset.UTC);
+        }
+        ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        if (ifd0 != null && ifd0.getDate(ExifDirectoryBase.TAG_DATETIME, UTC) != null) {
+            return LocalDateTime.ofInstant(ifd0.getDate(ExifDirectoryBase.TAG_DATETIME, UTC).toInstant(), ZoneOffset.UTC);
+        }
+
+        // Containers MP4/MOV gravam a criacao em UTC; zero (1904) significa ausente
+        Date created = firstDate(metadata, Mp4Directory.class, Mp4Directory.TAG_CREATION_TIME);
+        if (created == null) {
+            created = firstDate(metadata, QuickTimeDirectory.class, QuickTimeDirectory.TAG_CREATION_TIME);
+        }
+        if (created != null && created.getTime() > 0) {
+            return LocalDateTime.ofInstant(created.toInstant(), ZoneOffset.UTC);
+        }
+        return null;
+    }
+
+    private Long readDurationMs(Metadata metadata) {
+        Long duration = durationMs(metadata.getFirstDirectoryOfType(Mp4Directory.class), Mp4Directory.TAG_DURATION, Mp4Directory.TAG_TIME_SCALE);
+        if (duration != null) {
+            return duration;
+        }
+        return durationMs(metadata.getFirstDirectoryOfType(QuickTimeDirectory.class), QuickTimeDirectory.TAG_DURATION, QuickTimeDirectory.TAG_TIME_SCALE);
+    }
+
+    private Long durationMs(Directory directory, int durationTag, int timeScaleTag) {
+        if (directory == null) {
+            return null;
+        }
+        Long duration = directory.getLongObject(durationTag);
+        Long timeScale = directory.getLongObject(timeScaleTag);
+        if (duration == null || timeScale == null || timeScale <= 0) {
+            return null;
+        }
+        return duration * 1000L / timeScale;
+    }
+
+    private Date firstDate(Metadata metadata, Class<? extends Directory> type, int tag) {
+        Directory directory = metadata.getFirstDirectoryOfType(type);
+        return directory == null ? null : directory.getDate(tag, UTC);
+    }
+
+    private record DimensionTags(Class<? extends Directory> directoryType, int widthTag, int heightTag) {}
+
+    private record ExtractedMetadata(Integer width, Integer height, LocalDateTime capturedAt, Long durationMs) {}
+}
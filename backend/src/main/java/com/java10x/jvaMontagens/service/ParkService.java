@@ -1,37 +1,81 @@
 package com.java10x.jvaMontagens.service;
 
 import com.java10x.jvaMontagens.model.ClientModel;
+import com.java10x.jvaMontagens.model.MediaMetadataStatus;
 import com.java10x.jvaMontagens.model.ParkMediaModel;
 import com.java10x.jvaMontagens.model.ParkModel;
 import com.java10x.jvaMontagens.repository.ClientRepository;
+import com.java10x.jvaMontagens.repository.ParkMediaContentWriter;
 import com.java10x.jvaMontagens.repository.ParkMediaRepository;
 import com.java10x.jvaMontagens.repository.ParkRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipOutputStream;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class ParkService {
     private static final long MAX_MEDIA_FILE_SIZE_BYTES = 60L * 1024L * 1024L;
 
     private final ParkRepository parkRepository;
     private final ClientRepository clientRepository;
     private final ParkMediaRepository parkMediaRepository;
+    private final ParkMediaContentWriter parkMediaContentWriter;
+    private final UploadStagingArea uploadStagingArea;
+    private final Executor mediaProcessingExecutor;
+    private final StorageUsageService storageUsageService;
+    private final MediaMetadataService mediaMetadataService;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchService searchService;
 
     public ParkService(
             ParkRepository parkRepository,
             ClientRepository clientRepository,
-            ParkMediaRepository parkMediaRepository
+            ParkMediaRepository parkMediaRepository,
+            ParkMediaContentWriter parkMediaContentWriter,
+            UploadStagingArea uploadStagingArea,
+            @Qualifier("mediaProcessingExecutor") Executor mediaProcessingExecutor,
+            StorageUsageService storageUsageService,
+            MediaMetadataService mediaMetadataService,
+            TransactionTemplate transactionTemplate,
+            SearchService searchService
     ) {
         this.parkRepository = parkRepository;
         this.clientRepository = clientRepository;
         this.parkMediaRepository = parkMediaRepository;
+        this.parkMediaContentWriter = parkMediaContentWriter;
+        this.uploadStagingArea = uploadStagingArea;
+        this.mediaProcessingExecutor = mediaProcessingExecutor;
+        this.storageUsageService = storageUsageService;
+        this.mediaMetadataService = mediaMetadataService;
+        this.transactionTemplate = transactionTemplate;
+        this.searchService = searchService;
     }
 
     public ParkModel createPark(ParkModel park, String clientCnpj) {
@@ -45,14 +89,26 @@ public class ParkService {
 
         park.setName(park.getName().trim());
         park.setClient(client);
-        return parkRepository.save(park);
+        ParkModel saved = parkRepository.save(park);
+        searchService.indexPark(saved);
+        return saved;
     }
 
-    public List<ParkModel> listParks(String clientCnpj) {
-        if (clientCnpj != null) {
-            return parkRepository.findByClientCnpj(DocumentUtils.normalizeCnpj(clientCnpj));
+    @Transactional(readOnly = true)
+    public CursorPage<ParkItem> listParks(String clientCnpj, Integer limit, String cursor) {
+        String normalizedCnpj = clientCnpj == null ? null : DocumentUtils.normalizeCnpj(clientCnpj);
+        int pageLimit = CursorPage.normalizeLimit(limit);
+        String afterName = "";
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorPage.decodeCursor(cursor, 2);
+            afterName = keys[0];
+            afterId = CursorPage.longKey(keys[1]);
         }
-        return parkRepository.findAll();
+
+        List<ParkModel> rows = parkRepository.findPage(normalizedCnpj, afterName, afterId, PageRequest.of(0, pageLimit + 1));
+        return CursorPage.of(rows, pageLimit, park -> CursorPage.encodeCursor(park.getName(), park.getId()))
+                .map(ParkItem::from);
     }
 
     public ParkModel updatePark(Long parkId, String name, String city, String state, String clientCnpj) {
@@ -74,27 +130,56 @@ public class ParkService {
                     .orElseThrow(() -> new NoSuchElementException("Client not found for CNPJ " + normalizedCnpj));
             existing.setClient(client);
         }
-        return parkRepository.save(existing);
+        ParkModel saved = parkRepository.save(existing);
+        searchService.indexPark(saved);
+        return saved;
     }
 
+    @Transactional
     public void deletePark(Long parkId) {
         ParkModel existing = parkRepository.findById(parkId)
                 .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
+        storageUsageService.forgetPark(existing.getId());
         parkRepository.delete(existing);
+        searchService.removePark(existing.getId());
     }
 
     @Transactional(readOnly = true)
-    public List<ParkMediaItem> listParkMedia(Long parkId) {
+    public ParkMediaListing prepareParkMediaListing(Long parkId, MediaListQuery query) {
         ParkModel park = parkRepository.findById(parkId)
                 .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
 
-        return parkMediaRepository.findByParkIdOrderByUploadedAtDesc(parkId).stream()
-                .map(media -> toParkMediaItem(park, media))
-                .toList();
+        if (query.capturedFrom() != null && query.capturedTo() != null
+                && query.capturedTo().isBefore(query.capturedFrom())) {
+            throw new IllegalArgumentException("capturedTo cannot be before capturedFrom.");
+        }
+
+        return new ParkMediaListing(
+                park.getId(),
+                park.getName(),
+                toContentTypePattern(query.type()),
+                query.capturedFrom() == null ? null : query.capturedFrom().atStartOfDay(),
+                query.capturedTo() == null ? null : query.capturedTo().plusDays(1).atStartOfDay(),
+                toMediaSort(query.sort(), query.order())
+        );
     }
 
-    @Transactional
-    public List<ParkMediaItem> uploadParkMedia(Long parkId, List<MultipartFile> files) {
+    // Sem data de captura vai para o fim e fica de fora quando ha filtro de data
+    @Transactional(readOnly = true)
+    public void writeParkMediaListing(ParkMediaListing listing, Consumer<ParkMediaItem> sink) {
+        try (Stream<ParkMediaRepository.MediaListing> rows = parkMediaRepository.streamListingByParkId(
+                listing.parkId(),
+                listing.contentTypePattern(),
+                listing.capturedFrom(),
+                listing.capturedTo(),
+                listing.sort()
+        )) {
+            rows.forEach(media -> sink.accept(toParkMediaItem(listing.parkId(), listing.parkName(), media)));
+        }
+    }
+
+    // Arquivo invalido volta no resultado sem derrubar o lote
+    public List<MediaUploadResult> uploadParkMedia(Long parkId, List<MultipartFile> files) {
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("At least one media file is required.");
         }
@@ -102,15 +187,179 @@ public class ParkService {
         ParkModel park = parkRepository.findById(parkId)
                 .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
 
-        List<ParkMediaModel> mediaToSave = files.stream()
-                .map(file -> buildParkMedia(park, file))
+        LocalDateTime uploadedAt = LocalDateTime.now();
+        List<CompletableFuture<PreparedMedia>> preparations = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> prepareParkMedia(park, file, uploadedAt), mediaProcessingExecutor))
+                .toList();
+        List<PreparedMedia> prepared = preparations.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        List<PreparedMedia> accepted = prepared.stream()
+                .filter(media -> media.error() == null)
+                .toList();
+        if (accepted.isEmpty()) {
+            throw new IllegalArgumentException(prepared.get(0).error());
+        }
+
+        List<ParkMediaContentWriter.MediaContent> contents = accepted.stream()
+                .map(PreparedMedia::content)
                 .toList();
+        List<Long> mediaIds;
+        try {
+            mediaIds = transactionTemplate.execute(status -> {
+                List<Long> ids = parkMediaContentWriter.insertAll(park.getId(), contents);
+                storageUsageService.recordMediaAdded(
+                        park.getId(),
+                        contents.stream().mapToLong(ParkMediaContentWriter.MediaContent::fileSize).sum(),
+                        contents.size()
+                );
+                return ids;
+            });
+        } catch (UncheckedIOException ex) {
+            throw new IllegalArgumentException("Failed to read uploaded media file.");
+        }
 
-        return parkMediaRepository.saveAll(mediaToSave).stream()
-                .map(media -> toParkMediaItem(park, media))
+        mediaMetadataService.extractAsync(mediaIds);
+
+        Map<PreparedMedia, Long> idsByMedia = new IdentityHashMap<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            idsByMedia.put(accepted.get(i), mediaIds.get(i));
+        }
+
+        return prepared.stream()
+                .map(media -> {
+                    if (media.error() != null) {
+                        return new MediaUploadResult(media.originalFileName(), false, null, media.error());
+                    }
+                    ParkMediaContentWriter.MediaContent content = media.content();
+                    ParkMediaItem item = newParkMediaItem(
+                            idsByMedia.get(media),
+                            park,
+                            content.fileName(),
+                            content.contentType(),
+                            content.fileSize(),
+                            content.uploadedAt()
+                    );
+                    return new MediaUploadResult(media.originalFileName(), true, item, null);
+                })
                 .toList();
     }
 
+    public MediaUploadStatus createMediaUpload(Long parkId, CreateMediaUploadInput input) {
+        ParkModel park = parkRepository.findById(parkId)
+                .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
+
+        if (input.totalSize() == null || input.totalSize() <= 0) {
+            throw new IllegalArgumentException("totalSize must be greater than zero.");
+        }
+        if (input.totalSize() > MAX_MEDIA_FILE_SIZE_BYTES) {
+            throw new IllegalArgumentException("Each media file cannot exceed 60MB.");
+        }
+
+        String contentType = normalizeMediaContentType(input.contentType(), input.fileName());
+        if (!isAllowedMediaContentType(contentType)) {
+            throw new IllegalArgumentException("Only image and video files are accepted.");
+        }
+
+        try {
+            UploadStagingArea.StagedUpload upload = uploadStagingArea.open(
+                    park.getId(),
+                    normalizeFileName(input.fileName(), park.getId()),
+                    contentType,
+                    input.totalSize()
+            );
+            return toMediaUploadStatus(upload, 0L);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to start media upload.");
+        }
+    }
+
+    public MediaUploadStatus getMediaUpload(String uploadId) {
+        UploadStagingArea.StagedUpload upload = uploadStagingArea.get(uploadId);
+        try {
+            return toMediaUploadStatus(upload, uploadStagingArea.receivedBytes(upload));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to read media upload state.");
+        }
+    }
+
+    public MediaUploadStatus appendMediaUploadChunk(String uploadId, long offset, InputStream content) {
+        UploadStagingArea.StagedUpload upload = uploadStagingArea.get(uploadId);
+        try {
+            long received = uploadStagingArea.append(upload, offset, content);
+            return toMediaUploadStatus(upload, received);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to store media upload chunk.");
+        }
+    }
+
+    @Transactional
+    public ParkMediaItem completeMediaUpload(String uploadId) {
+        UploadStagingArea.StagedUpload upload = uploadStagingArea.get(uploadId);
+        try {
+            uploadStagingArea.beginCompletion(upload);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to read media upload state.");
+        }
+
+        try {
+            ParkModel park = parkRepository.findById(upload.parkId())
+                    .orElseThrow(() -> new NoSuchElementException("Park not found for id " + upload.parkId()));
+
+            LocalDateTime uploadedAt = LocalDateTime.now();
+            Long mediaId = parkMediaContentWriter.insert(
+                    park.getId(),
+                    new ParkMediaContentWriter.MediaContent(
+                            upload.fileName(),
+                            upload.contentType(),
+                            upload.totalSize(),
+                            uploadStagingArea.sha256Hex(upload),
+                            uploadedAt,
+                            new FileSystemResource(upload.file())
+                    )
+            );
+            storageUsageService.recordMediaAdded(park.getId(), upload.totalSize(), 1L);
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        discardStagedUpload(uploadId);
+                        mediaMetadataService.extractAsync(List.of(mediaId));
+                    } else {
+                        uploadStagingArea.abortCompletion(upload);
+                    }
+                }
+            });
+
+            return newParkMediaItem(
+                    mediaId,
+                    park,
+                    upload.fileName(),
+                    upload.contentType(),
+                    upload.totalSize(),
+                    uploadedAt
+            );
+        } catch (IOException | UncheckedIOException ex) {
+            uploadStagingArea.abortCompletion(upload);
+            throw new IllegalArgumentException("Failed to read staged media upload.");
+        } catch (RuntimeException ex) {
+            uploadStagingArea.abortCompletion(upload);
+            throw ex;
+        }
+    }
+
+    public void cancelMediaUpload(String uploadId) {
+        uploadStagingArea.get(uploadId);
+        discardStagedUpload(uploadId);
+    }
+
+    @Transactional(readOnly = true)
+    public String findParkMediaContentHash(Long mediaId) {
+        return parkMediaRepository.findContentHashById(mediaId).orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public ParkMediaFile downloadParkMedia(Long mediaId) {
         ParkMediaModel media = parkMediaRepository.findById(mediaId)
@@ -128,7 +377,40 @@ public class ParkService {
                 ? "park-media-" + mediaId
                 : media.getFileName();
 
-        return new ParkMediaFile(fileName, contentType, media.getFileBytes());
+        String contentHash = media.getContentHash() == null
+                ? FileHashUtils.sha256Hex(media.getFileBytes())
+                : media.getContentHash();
+
+        return new ParkMediaFile(fileName, contentType, media.getFileBytes(), contentHash);
+    }
+
+    @Transactional(readOnly = true)
+    public ParkMediaArchive prepareParkMediaArchive(Long parkId) {
+        ParkModel park = parkRepository.findById(parkId)
+                .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
+
+        List<ParkMediaArchiveEntry> entries = parkMediaRepository.findMetadataByParkId(parkId).stream()
+                .map(media -> new ParkMediaArchiveEntry(
+                        media.getId(),
+                        media.getId() + "-" + normalizeFileName(media.getFileName(), park.getId()),
+                        media.getContentType()
+                ))
+                .toList();
+
+        return new ParkMediaArchive("park-" + park.getId() + "-media.zip", entries);
+    }
+
+    public void writeParkMediaArchive(ParkMediaArchive archive, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        for (ParkMediaArchiveEntry entry : archive.entries()) {
+            Optional<byte[]> fileBytes = parkMediaRepository.findFileBytesById(entry.mediaId());
+            if (fileBytes.isEmpty()) {
+                continue;
+            }
+            ZipArchiveUtils.writeEntry(zip, entry.entryName(), entry.contentType(), fileBytes.get());
+            zip.flush();
+        }
+        zip.finish();
     }
 
     @Transactional
@@ -136,51 +418,141 @@ public class ParkService {
         ParkMediaModel media = parkMediaRepository.findById(mediaId)
                 .orElseThrow(() -> new NoSuchElementException("Park media not found for id " + mediaId));
         parkMediaRepository.delete(media);
+        storageUsageService.recordMediaRemoved(
+                media.getPark().getId(),
+                media.getFileSize() == null ? 0L : media.getFileSize()
+        );
     }
 
-    private ParkMediaModel buildParkMedia(ParkModel park, MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("Media file cannot be empty.");
-        }
-
-        if (file.getSize() > MAX_MEDIA_FILE_SIZE_BYTES) {
-            throw new IllegalArgumentException("Each media file cannot exceed 60MB.");
-        }
-
-        String contentType = normalizeMediaContentType(file.getContentType(), file.getOriginalFilename());
-        if (!isAllowedMediaContentType(contentType)) {
-            throw new IllegalArgumentException("Only image and video files are accepted.");
+    private PreparedMedia prepareParkMedia(ParkModel park, MultipartFile file, LocalDateTime uploadedAt) {
+        String originalFileName = file == null ? null : file.getOriginalFilename();
+        try {
+            if (file == null || file.isEmpty()) {
+                throw new IllegalArgumentException("Media file cannot be empty.");
+            }
+
+            if (file.getSize() > MAX_MEDIA_FILE_SIZE_BYTES) {
+                throw new IllegalArgumentException("Each media file cannot exceed 60MB.");
+            }
+
+            String contentType = normalizeMediaContentType(file.getContentType(), originalFileName);
+            if (!isAllowedMediaContentType(contentType)) {
+                throw new IllegalArgumentException("Only image and video files are accepted.");
+            }
+
+            String contentHash;
+            try (InputStream in = file.getInputStream()) {
+                contentHash = FileHashUtils.sha256Hex(in);
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("Failed to read uploaded media file.");
+            }
+
+            ParkMediaContentWriter.MediaContent content = new ParkMediaContentWriter.MediaContent(
+                    normalizeFileName(originalFileName, park.getId()),
+                    contentType,
+                    file.getSize(),
+                    contentHash,
+                    uploadedAt,
+                    file
+            );
+            return new PreparedMedia(originalFileName, content, null);
+        } catch (IllegalArgumentException ex) {
+            return new PreparedMedia(originalFileName, null, ex.getMessage());
         }
+    }
 
-        byte[] fileBytes;
+    private void discardStagedUpload(String uploadId) {
         try {
-            fileBytes = file.getBytes();
+            uploadStagingArea.discard(uploadId);
         } catch (IOException ex) {
-            throw new IllegalArgumentException("Failed to read uploaded media file.");
+            throw new UncheckedIOException(ex);
         }
+    }
 
-        ParkMediaModel media = new ParkMediaModel();
-        media.setPark(park);
-        media.setFileName(normalizeFileName(file.getOriginalFilename(), park.getId()));
-        media.setContentType(contentType);
-        media.setFileSize(file.getSize());
-        media.setUploadedAt(LocalDateTime.now());
-        media.setFileBytes(fileBytes);
-        return media;
+    private MediaUploadStatus toMediaUploadStatus(UploadStagingArea.StagedUpload upload, long receivedBytes) {
+        return new MediaUploadStatus(
+                upload.uploadId(),
+                upload.parkId(),
+                upload.fileName(),
+                upload.contentType(),
+                upload.totalSize(),
+                receivedBytes,
+                receivedBytes == upload.totalSize()
+        );
     }
 
-    private ParkMediaItem toParkMediaItem(ParkModel park, ParkMediaModel media) {
+    private ParkMediaItem toParkMediaItem(Long parkId, String parkName, ParkMediaRepository.MediaListing media) {
         return new ParkMediaItem(
                 media.getId(),
-                park.getId(),
-                park.getName(),
+                parkId,
+                parkName,
                 media.getFileName(),
                 media.getContentType(),
                 media.getFileSize(),
-                media.getUploadedAt()
+                media.getUploadedAt(),
+                media.getCapturedAt(),
+                media.getWidth(),
+                media.getHeight(),
+                media.getDurationMs(),
+                media.getMetadataStatus() == null ? MediaMetadataStatus.PENDING : media.getMetadataStatus()
+        );
+    }
+
+    private ParkMediaItem newParkMediaItem(
+            Long mediaId,
+            ParkModel park,
+            String fileName,
+            String contentType,
+            long fileSize,
+            LocalDateTime uploadedAt
+    ) {
+        return new ParkMediaItem(
+                mediaId,
+                park.getId(),
+                park.getName(),
+                fileName,
+                contentType,
+                fileSize,
+                uploadedAt,
+                null,
+                null,
+                null,
+                null,
+                MediaMetadataStatus.PENDING
         );
     }
 
+    private String toContentTypePattern(String type) {
+        if (type == null || type.isBlank()) {
+            return "%";
+        }
+        String normalized = type.trim().toLowerCase(Locale.ROOT);
+        if (!"image".equals(normalized) && !"video".equals(normalized)) {
+            throw new IllegalArgumentException("type must be image or video.");
+        }
+        return normalized + "/%";
+    }
+
+    private Sort toMediaSort(String sort, String order) {
+        Sort.Direction direction;
+        if (order == null || order.isBlank()) {
+            direction = Sort.Direction.DESC;
+        } else {
+            direction = Sort.Direction.fromOptionalString(order.trim())
+                    .orElseThrow(() -> new IllegalArgumentException("order must be asc or desc."));
+        }
+
+        if (sort == null || sort.isBlank() || "uploadedAt".equals(sort)) {
+            return Sort.by(direction, "uploadedAt").and(Sort.by(direction, "id"));
+        }
+        if ("capturedAt".equals(sort)) {
+            return Sort.by(new Sort.Order(direction, "capturedAt", Sort.NullHandling.NULLS_LAST))
+                    .and(Sort.by(direction, "uploadedAt"))
+                    .and(Sort.by(direction, "id"));
+        }
+        throw new IllegalArgumentException("sort must be uploadedAt or capturedAt.");
+    }
+
     private String normalizeFileName(String originalFileName, Long parkId) {
         String candidate = originalFileName == null ? "" : originalFileName.trim();
         if (candidate.isEmpty()) {
@@ -211,6 +583,24 @@ public class ParkService {
                 && (contentType.startsWith("image/") || contentType.startsWith("video/"));
     }
 
+    public record ParkItem(
+            Long id,
+            String name,
+            String city,
+            String state,
+            ClientService.ClientItem client
+    ) {
+        public static ParkItem from(ParkModel park) {
+            return new ParkItem(
+                    park.getId(),
+                    park.getName(),
+                    park.getCity(),
+                    park.getState(),
+                    ClientService.ClientItem.from(park.getClient())
+            );
+        }
+    }
+
     public record ParkMediaItem(
             Long id,
             Long parkId,
@@ -218,12 +608,75 @@ public class ParkService {
             String fileName,
             String contentType,
             Long fileSize,
-            LocalDateTime uploadedAt
+            LocalDateTime uploadedAt,
+            LocalDateTime capturedAt,
+            Integer width,
+            Integer height,
+            Long durationMs,
+            MediaMetadataStatus metadataStatus
+    ) {}
+
+    public record MediaListQuery(
+            String type,
+            LocalDate capturedFrom,
+            LocalDate capturedTo,
+            String sort,
+            String order
+    ) {}
+
+    public record ParkMediaListing(
+            Long parkId,
+            String parkName,
+            String contentTypePattern,
+            LocalDateTime capturedFrom,
+            LocalDateTime capturedTo,
+            Sort sort
+    ) {}
+
+    public record MediaUploadResult(
+            String fileName,
+            boolean uploaded,
+            ParkMediaItem media,
+            String error
+    ) {}
+
+    private record PreparedMedia(
+            String originalFileName,
+            ParkMediaContentWriter.MediaContent content,
+            String error
+    ) {}
+
+    public record CreateMediaUploadInput(
+            String fileName,
+            String contentType,
+            Long totalSize
+    ) {}
+
+    public record MediaUploadStatus(
+            String uploadId,
+            Long parkId,
+            String fileName,
+            String contentType,
+            Long totalSize,
+            Long receivedBytes,
+            boolean readyToComplete
+    ) {}
+
+    public record ParkMediaArchive(
+            String fileName,
+            List<ParkMediaArchiveEntry> entries
+    ) {}
+
+    public record ParkMediaArchiveEntry(
+            Long mediaId,
+            String entryName,
+            String contentType
     ) {}
 
     public record ParkMediaFile(
             String fileName,
             String contentType,
-            byte[] data
+            byte[] data,
+            String contentHash
     ) {}
 }
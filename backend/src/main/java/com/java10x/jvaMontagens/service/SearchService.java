@@ -0,0 +1,466 @@
+package com.java10x.jvaMontagens.service;
+
+import com.java10x.jvaMontagens.model.ClientModel;
+import com.java10x.jvaMontagens.model.FuncionariosModel;
+import com.java10x.jvaMontagens.model.PaymentEntryModel;
+import com.java10x.jvaMontagens.model.ParkModel;
+import com.java10x.jvaMontagens.repository.ClientRepository;
+import com.java10x.jvaMontagens.repository.FuncionarioRepository;
+import com.java10x.jvaMontagens.repository.ParkRepository;
+import com.java10x.jvaMontagens.repository.PaymentEntryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Indice em memoria por instancia; reconstruido no startup e atualizado apos cada commit
+@Service
+public class SearchService {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final float IDENTIFIER_WEIGHT = 4f;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TEXT_WEIGHT = 1f;
+    private static final float PREFIX_FACTOR = 0.5f;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ClientRepository clientRepository;
+    private final ParkRepository parkRepository;
+    private final FuncionarioRepository funcionarioRepository;
+    private final PaymentEntryRepository paymentEntryRepository;
+
+    // Buscas leem o indice atual sem lock; rebuild monta um novo e so entao troca
+    private volatile Index index = new Index();
+    // Escritas que chegam durante o rebuild esperam e vao para o indice novo
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public SearchService(
+            ClientRepository clientRepository,
+            ParkRepository parkRepository,
+            FuncionarioRepository funcionarioRepository,
+            PaymentEntryRepository paymentEntryRepository
+    ) {
+        this.clientRepository = clientRepository;
+        this.parkRepository = parkRepository;
+        this.funcionarioRepository = funcionarioRepository;
+        this.paymentEntryRepository = paymentEntryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            Index rebuilt = new Index();
+            clientRepository.findAll().forEach(client -> rebuilt.put(clientDocument(client)));
+            parkRepository.findAllWithClient().forEach(park -> rebuilt.put(parkDocument(park)));
+            funcionarioRepository.findAll().forEach(employee -> rebuilt.put(employeeDocument(employee)));
+            try (Stream<PaymentEntryRepository.SearchRow> rows = paymentEntryRepository.streamSearchRows()) {
+                rows.forEach(row -> rebuilt.put(paymentDocument(
+                        row.getId(),
+                        row.getName(),
+                        row.getInvoiceNumber(),
+                        row.getNotes(),
+                        row.getParkId(),
+                        row.getPeriodId(),
+                        row.getYear(),
+                        row.getMonth()
+                )));
+            }
+            index = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void indexClient(ClientModel client) {
+        IndexedDocument document = clientDocument(client);
+        afterCommit(() -> put(document));
+    }
+
+    public void indexPark(ParkModel park) {
+        IndexedDocument document = parkDocument(park);
+        afterCommit(() -> put(document));
+    }
+
+    public void indexEmployee(FuncionariosModel employee) {
+        IndexedDocument document = employeeDocument(employee);
+        afterCommit(() -> put(document));
+    }
+
+    public void indexPayment(PaymentEntryModel payment) {
+        IndexedDocument document = paymentDocument(
+                payment.getId(),
+                payment.getName(),
+                payment.getInvoiceNumber(),
+                payment.getNotes(),
+                payment.getFinancial().getPark().getId(),
+                payment.getFinancial().getId(),
+                payment.getFinancial().getYear(),
+                payment.getFinancial().getMonth()
+        );
+        afterCommit(() -> put(document));
+    }
+
+    public void removePayment(Long paymentId) {
+        afterCommit(() -> remove(new DocumentKey(SearchResultType.PAYMENT, String.valueOf(paymentId))));
+    }
+
+    public void removePeriod(Long periodId) {
+        afterCommit(() -> removeWhere(document -> periodId.equals(document.periodId())));
+    }
+
+    public void removePark(Long parkId) {
+        afterCommit(() -> removeWhere(document -> parkId.equals(document.parkId())));
+    }
+
+    public void removeClient(String cnpj) {
+        afterCommit(() -> {
+            Set<Long> parkIds = new HashSet<>();
+            index.documents.values().stream()
+                    .filter(document -> document.key().type() == SearchResultType.PARK && cnpj.equals(document.clientCnpj()))
+                    .forEach(document -> parkIds.add(document.parkId()));
+            removeWhere(document -> cnpj.equals(document.clientCnpj()) || parkIds.contains(document.parkId()));
+        });
+    }
+
+    public List<SearchHit> search(String query, Set<SearchResultType> types, Integer limit) {
+        int resultLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if (resultLimit < 1 || resultLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        List<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            throw new IllegalArgumentException("q must have at least " + MIN_TERM_LENGTH + " characters.");
+        }
+        Set<SearchResultType> wantedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchResultType.class)
+                : EnumSet.copyOf(types);
+
+        Index current = index;
+        Map<DocumentKey, Float> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<DocumentKey, Float> termScores = new HashMap<>();
+            for (Map.Entry<String, Set<DocumentKey>> posting
+                    : current.postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, true).entrySet()) {
+                float factor = posting.getKey().equals(queryTerm) ? 1f : PREFIX_FACTOR;
+                for (DocumentKey key : posting.getValue()) {
+                    IndexedDocument document = current.documents.get(key);
+                    if (document == null || !wantedTypes.contains(key.type())) {
+                        continue;
+                    }
+                    float score = document.termWeights().getOrDefault(posting.getKey(), 0f) * factor;
+                    termScores.merge(key, score, Math::max);
+                }
+            }
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                Map<DocumentKey, Float> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<DocumentKey, Float> entry : termScores.entrySet()) {
+                    Float previousScore = previous.get(entry.getKey());
+                    if (previousScore != null) {
+                        scores.put(entry.getKey(), previousScore + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> toHit(current, entry.getKey(), entry.getValue()))
+                .filter(hit -> hit != null)
+                .sorted(Comparator.comparing(SearchHit::score).reversed()
+                        .thenComparing(SearchHit::title, String.CASE_INSENSITIVE_ORDER))
+                .limit(resultLimit)
+                .toList();
+    }
+
+    private SearchHit toHit(Index current, DocumentKey key, float score) {
+        IndexedDocument document = current.documents.get(key);
+        if (document == null) {
+            return null;
+        }
+        return new SearchHit(
+                key.type(),
+                key.id(),
+                document.title(),
+                describe(current, document),
+                score,
+                document.parkId(),
+                document.periodId()
+        );
+    }
+
+    private String describe(Index current, IndexedDocument document) {
+        return switch (document.key().type()) {
+            case CLIENT -> "CNPJ " + document.key().id();
+            case PARK -> joinDetail(document.detail(), titleOf(current, SearchResultType.CLIENT, document.clientCnpj()));
+            case EMPLOYEE -> document.detail();
+            case PAYMENT -> joinDetail(
+                    titleOf(current, SearchResultType.PARK, String.valueOf(document.parkId())),
+                    String.format("%02d/%d", document.month(), document.year()),
+                    document.detail()
+            );
+        };
+    }
+
+    private String titleOf(Index current, SearchResultType type, String id) {
+        IndexedDocument document = id == null ? null : current.documents.get(new DocumentKey(type, id));
+        return document == null ? null : document.title();
+    }
+
+    private String joinDetail(String... parts) {
+        return Stream.of(parts)
+                .filter(part -> part != null && !part.isBlank())
+                .reduce((left, right) -> left + " - " + right)
+                .orElse(null);
+    }
+
+    private IndexedDocument clientDocument(ClientModel client) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, client.getName(), TITLE_WEIGHT);
+        addTerms(terms, client.getCnpj(), IDENTIFIER_WEIGHT);
+        return new IndexedDocument(
+                new DocumentKey(SearchResultType.CLIENT, client.getCnpj()),
+                client.getName(),
+                null,
+                terms,
+                client.getCnpj(),
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    private IndexedDocument parkDocument(ParkModel park) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, park.getName(), TITLE_WEIGHT);
+        addTerms(terms, park.getCity(), TEXT_WEIGHT);
+        String location = park.getState() == null || park.getState().isBlank()
+                ? park.getCity()
+                : joinDetail(park.getCity(), park.getState());
+        return new IndexedDocument(
+                new DocumentKey(SearchResultType.PARK, String.valueOf(park.getId())),
+                park.getName(),
+                location,
+                terms,
+                park.getClient() == null ? null : park.getClient().getCnpj(),
+                park.getId(),
+                null,
+                null,
+                null
+        );
+    }
+
+    private IndexedDocument employeeDocument(FuncionariosModel employee) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, employee.getName(), TITLE_WEIGHT);
+        addTerms(terms, employee.getCpf(), IDENTIFIER_WEIGHT);
+        return new IndexedDocument(
+                new DocumentKey(SearchResultType.EMPLOYEE, String.valueOf(employee.getId())),
+                employee.getName(),
+                employee.getRole() == null ? null : employee.getRole().name(),
+                terms,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    private IndexedDocument paymentDocument(
+            Long paymentId,
+            String name,
+            String invoiceNumber,
+            String notes,
+            Long parkId,
+            Long periodId,
+            Integer year,
+            Integer month
+    ) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, name, TITLE_WEIGHT);
+        addTerms(terms, invoiceNumber, IDENTIFIER_WEIGHT);
+        addTerms(terms, notes, TEXT_WEIGHT);
+        return new IndexedDocument(
+                new DocumentKey(SearchResultType.PAYMENT, String.valueOf(paymentId)),
+                name,
+                invoiceNumber == null || invoiceNumber.isBlank() ? null : invoiceNumber.trim(),
+                terms,
+                null,
+                parkId,
+                periodId,
+                year,
+                month
+        );
+    }
+
+    private void put(IndexedDocument document) {
+        writeLock.lock();
+        try {
+            index.put(document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void remove(DocumentKey key) {
+        writeLock.lock();
+        try {
+            index.remove(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeWhere(Predicate<IndexedDocument> predicate) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            current.documents.values().stream()
+                    .filter(predicate)
+                    .map(IndexedDocument::key)
+                    .toList()
+                    .forEach(current::remove);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // "12.345.678/0001-90" vira um termo inteiro e tambem um por parte
+    private void addTerms(Map<String, Float> terms, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String word : WHITESPACE.split(normalize(text))) {
+            String joined = NON_ALPHANUMERIC.matcher(word).replaceAll("");
+            if (!joined.isEmpty()) {
+                terms.merge(joined, weight, Math::max);
+            }
+            for (String part : NON_ALPHANUMERIC.split(word)) {
+                if (!part.isEmpty()) {
+                    terms.merge(part, weight, Math::max);
+                }
+            }
+        }
+    }
+
+    private List<String> queryTerms(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return Stream.of(WHITESPACE.split(normalize(query)))
+                .map(word -> NON_ALPHANUMERIC.matcher(word).replaceAll(""))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .toList();
+    }
+
+    private String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public enum SearchResultType {
+        CLIENT,
+        PARK,
+        EMPLOYEE,
+        PAYMENT
+    }
+
+    public record SearchHit(
+            SearchResultType type,
+            String id,
+            String title,
+            String detail,
+            float score,
+            Long parkId,
+            Long periodId
+    ) {}
+
+    private record DocumentKey(SearchResultType type, String id) {}
+
+    private static final class Index {
+        private final Map<DocumentKey, IndexedDocument> documents = new ConcurrentHashMap<>();
+        private final NavigableMap<String, Set<DocumentKey>> postings = new ConcurrentSkipListMap<>();
+
+        private void put(IndexedDocument document) {
+            remove(document.key());
+            documents.put(document.key(), document);
+            for (String term : document.termWeights().keySet()) {
+                postings.computeIfAbsent(term, ignored -> ConcurrentHashMap.newKeySet()).add(document.key());
+            }
+        }
+
+        private void remove(DocumentKey key) {
+            IndexedDocument previous = documents.remove(key);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.termWeights().keySet()) {
+                Set<DocumentKey> keys = postings.get(term);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    private record IndexedDocument(
+            DocumentKey key,
+            String title,
+            String detail,
+            Map<String, Float> termWeights,
+            String clientCnpj,
+            Long parkId,
+            Long periodId,
+            Integer year,
+            Integer month
+    ) {}
+}
@@ -0,0 +1,211 @@
+package com.java10x.jvaMontagens.service;
+
+import com.java10x.jvaMontagens.model.ClientModel;
+import com.java10x.jvaMontagens.model.ParkModel;
+import com.java10x.jvaMontagens.model.ParkStorageUsageModel;
+import com.java10x.jvaMontagens.repository.ClientRepository;
+import com.java10x.jvaMontagens.repository.ParkMediaRepository;
+import com.java10x.jvaMontagens.repository.ParkRepository;
+import com.java10x.jvaMontagens.repository.ParkStorageUsageRepository;
+import com.java10x.jvaMontagens.repository.PaymentEntryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Totais por parque na mesma transacao de quem escreve; parque sem linha e somado uma vez
+@Service
+public class StorageUsageService {
+    private final ParkStorageUsageRepository parkStorageUsageRepository;
+    private final ParkMediaRepository parkMediaRepository;
+    private final PaymentEntryRepository paymentEntryRepository;
+    private final ParkRepository parkRepository;
+    private final ClientRepository clientRepository;
+
+    public StorageUsageService(
+            ParkStorageUsageRepository parkStorageUsageRepository,
+            ParkMediaRepository parkMediaRepository,
+            PaymentEntryRepository paymentEntryRepository,
+            ParkRepository parkRepository,
+            ClientRepository clientRepository
+    ) {
+        this.parkStorageUsageRepository = parkStorageUsageRepository;
+        this.parkMediaRepository = parkMediaRepository;
+        this.paymentEntryRepository = paymentEntryRepository;
+        this.parkRepository = parkRepository;
+        this.clientRepository = clientRepository;
+    }
+
+    @Transactional
+    public void recordMediaAdded(Long parkId, long bytes, long count) {
+        applyDelta(parkId, bytes, count, 0L, 0L);
+    }
+
+    @Transactional
+    public void recordMediaRemoved(Long parkId, long bytes) {
+        applyDelta(parkId, -bytes, -1L, 0L, 0L);
+    }
+
+    @Transactional
+    public void recordReceiptReplaced(Long parkId, Long previousBytes, long newBytes) {
+        long countDelta = previousBytes == null ? 1L : 0L;
+        long bytesDelta = newBytes - (previousBytes == null ? 0L : previousBytes);
+        applyDelta(parkId, 0L, 0L, bytesDelta, countDelta);
+    }
+
+    @Transactional
+    public void recordReceiptsRemoved(Long parkId, long bytes, long count) {
+        if (count == 0L) {
+            return;
+        }
+        applyDelta(parkId, 0L, 0L, -bytes, -count);
+    }
+
+    @Transactional
+    public void forgetPark(Long parkId) {
+        parkStorageUsageRepository.deleteById(parkId);
+    }
+
+    @Transactional
+    public void forgetClient(String clientCnpj) {
+        parkStorageUsageRepository.deleteByClientCnpj(clientCnpj);
+    }
+
+    @Transactional
+    public ParkStorageUsage getParkUsage(Long parkId) {
+        ParkModel park = parkRepository.findById(parkId)
+                .orElseThrow(() -> new NoSuchElementException("Park not found for id " + parkId));
+        return toParkStorageUsage(park, loadOrInitialize(park.getId()));
+    }
+
+    @Transactional
+    public ClientStorageUsage getClientUsage(String cnpj) {
+        String normalizedCnpj = DocumentUtils.normalizeCnpj(cnpj);
+        ClientModel client = clientRepository.findById(normalizedCnpj)
+                .orElseThrow(() -> new NoSuchElementException("Client not found for CNPJ " + normalizedCnpj));
+        List<ParkModel> parks = parkRepository.findByClientCnpj(normalizedCnpj);
+        return toClientStorageUsage(client, parks, loadUsage(parks));
+    }
+
+    @Transactional
+    public List<ClientStorageUsage> listUsage() {
+        List<ParkModel> parks = parkRepository.findAll();
+        Map<Long, ParkStorageUsageModel> usageByPark = loadUsage(parks);
+        Map<String, List<ParkModel>> parksByClient = parks.stream()
+                .collect(Collectors.groupingBy(park -> park.getClient().getCnpj()));
+
+        return clientRepository.findAll().stream()
+                .map(client -> toClientStorageUsage(
+                        client,
+                        parksByClient.getOrDefault(client.getCnpj(), List.of()),
+                        usageByPark
+                ))
+                .sorted(Comparator.comparing(ClientStorageUsage::totalBytes).reversed())
+                .toList();
+    }
+
+    private void applyDelta(Long parkId, long mediaBytes, long mediaCount, long receiptBytes, long receiptCount) {
+        if (parkStorageUsageRepository.applyDelta(parkId, mediaBytes, mediaCount, receiptBytes, receiptCount) > 0) {
+            return;
+        }
+        // A soma inicial ja inclui esta alteracao; o delta so entra se outra transacao inicializou antes
+        if (!initialize(parkId)) {
+            parkStorageUsageRepository.applyDelta(parkId, mediaBytes, mediaCount, receiptBytes, receiptCount);
+        }
+    }
+
+    private Map<Long, ParkStorageUsageModel> loadUsage(List<ParkModel> parks) {
+        List<Long> parkIds = parks.stream().map(ParkModel::getId).toList();
+        Map<Long, ParkStorageUsageModel> usageByPark = parkStorageUsageRepository.findAllById(parkIds).stream()
+                .collect(Collectors.toMap(ParkStorageUsageModel::getParkId, Function.identity()));
+
+        for (Long parkId : parkIds) {
+            if (!usageByPark.containsKey(parkId)) {
+                usageByPark.put(parkId, loadOrInitialize(parkId));
+            }
+        }
+        return usageByPark;
+    }
+
+    private ParkStorageUsageModel loadOrInitialize(Long parkId) {
+        return parkStorageUsageRepository.findById(parkId).orElseGet(() -> {
+            initialize(parkId);
+            return parkStorageUsageRepository.findById(parkId)
+                    .orElseThrow(() -> new IllegalStateException("Storage usage not initialized for park " + parkId));
+        });
+    }
+
+    private boolean initialize(Long parkId) {
+        ParkStorageUsageRepository.StorageTotals media = parkMediaRepository.sumByParkId(parkId);
+        ParkStorageUsageRepository.StorageTotals receipts = paymentEntryRepository.sumReceiptsByParkId(parkId);
+        return parkStorageUsageRepository.insertIfAbsent(
+                parkId,
+                media.getTotalBytes(),
+                media.getFileCount(),
+                receipts.getTotalBytes(),
+                receipts.getFileCount()
+        ) > 0;
+    }
+
+    private ParkStorageUsage toParkStorageUsage(ParkModel park, ParkStorageUsageModel usage) {
+        return new ParkStorageUsage(
+                park.getId(),
+                park.getName(),
+                park.getClient().getCnpj(),
+                usage.getMediaBytes(),
+                usage.getMediaCount(),
+                usage.getReceiptBytes(),
+                usage.getReceiptCount(),
+                usage.getMediaBytes() + usage.getReceiptBytes()
+        );
+    }
+
+    private ClientStorageUsage toClientStorageUsage(
+            ClientModel client,
+            List<ParkModel> parks,
+            Map<Long, ParkStorageUsageModel> usageByPark
+    ) {
+        List<ParkStorageUsage> parkUsages = parks.stream()
+                .map(park -> toParkStorageUsage(park, usageByPark.get(park.getId())))
+                .sorted(Comparator.comparing(ParkStorageUsage::totalBytes).reversed())
+                .toList();
+
+        return new ClientStorageUsage(
+                client.getCnpj(),
+                client.getName(),
+                parkUsages.stream().mapToLong(ParkStorageUsage::mediaBytes).sum(),
+                parkUsages.stream().mapToLong(ParkStorageUsage::mediaCount).sum(),
+                parkUsages.stream().mapToLong(ParkStorageUsage::receiptBytes).sum(),
+                parkUsages.stream().mapToLong(ParkStorageUsage::receiptCount).sum(),
+                parkUsages.stream().mapToLong(ParkStorageUsage::totalBytes).sum(),
+                parkUsages
+        );
+    }
+
+    public record ParkStorageUsage(
+            Long parkId,
+            String parkName,
+            String clientCnpj,
+            Long mediaBytes,
+            Long mediaCount,
+            Long receiptBytes,
+            Long receiptCount,
+            Long totalBytes
+    ) {}
+
+    public record ClientStorageUsage(
+            String cnpj,
+            String name,
+            Long mediaBytes,
+            Long mediaCount,
+            Long receiptBytes,
+            Long receiptCount,
+            Long totalBytes,
+            List<ParkStorageUsage> parks
+    ) {}
+}
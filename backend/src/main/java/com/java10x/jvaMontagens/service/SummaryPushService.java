@@ -0,0 +1,282 @@
+package com.java10x.jvaMontagens.service;
+
+import com.java10x.jvaMontagens.config.ReplicaRoutingDataSource;
+import com.java10x.jvaMontagens.config.ReportingBulkhead;
+import com.java10x.jvaMontagens.repository.ParkRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// Edicoes marcam o periodo; o flush recalcula cada um uma vez por janela
+@Service
+public class SummaryPushService {
+    private final FinancialService financialService;
+    private final ParkRepository parkRepository;
+    private final Executor summaryPushExecutor;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxQueuedEvents;
+
+    private final Map<Long, Set<Subscriber>> periodSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> parkSubscribers = new ConcurrentHashMap<>();
+    // periodo alterado -> parque dele; guardado ate o proximo flush
+    private final Map<Long, Long> dirtyPeriods = new ConcurrentHashMap<>();
+    private final Set<Long> pushing = ConcurrentHashMap.newKeySet();
+    private final Map<Long, FinancialService.FinancialSummary> lastSent = new ConcurrentHashMap<>();
+
+    public SummaryPushService(
+            FinancialService financialService,
+            ParkRepository parkRepository,
+            @Qualifier("summaryPushExecutor") Executor summaryPushExecutor,
+            @Value("${financial.summary-push.timeout:30m}") Duration timeout,
+            @Value("${financial.summary-push.send-timeout:10s}") Duration sendTimeout,
+            @Value("${financial.summary-push.max-queued-events:20}") int maxQueuedEvents
+    ) {
+        this.financialService = financialService;
+        this.parkRepository = parkRepository;
+        this.summaryPushExecutor = summaryPushExecutor;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    // O resumo atual vai logo na inscricao
+    public SseEmitter subscribePeriod(Long periodId) {
+        FinancialService.FinancialSummary current = summaryFromPrimary(periodId);
+        Subscriber subscriber = register(periodSubscribers, periodId);
+        subscriber.offer(new PendingEvent("summary", current));
+        return subscriber.emitter;
+    }
+
+    public SseEmitter subscribePark(Long parkId) {
+        if (!parkRepository.existsById(parkId)) {
+            throw new NoSuchElementException("Park not found for id " + parkId);
+        }
+        return register(parkSubscribers, parkId).emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPeriodChanged(PeriodChanged event) {
+        if (periodSubscribers.containsKey(event.periodId()) || parkSubscribers.containsKey(event.parkId())) {
+            dirtyPeriods.put(event.periodId(), event.parkId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${financial.summary-push.window:500ms}")
+    public void flush() {
+        for (Long periodId : Set.copyOf(dirtyPeriods.keySet())) {
+            // Um recalculo por periodo de cada vez; o que chegar durante ele espera o proximo flush
+            if (!pushing.add(periodId)) {
+                continue;
+            }
+            Long parkId = dirtyPeriods.remove(periodId);
+            if (parkId == null) {
+                pushing.remove(periodId);
+                continue;
+            }
+            try {
+                summaryPushExecutor.execute(() -> {
+                    try {
+                        push(periodId, parkId);
+                    } finally {
+                        pushing.remove(periodId);
+                    }
+                });
+            } catch (TaskRejectedException ex) {
+                pushing.remove(periodId);
+                dirtyPeriods.putIfAbsent(periodId, parkId);
+            }
+        }
+    }
+
+    // Mantem proxies abertos e revela clientes que cairam
+    @Scheduled(fixedRateString = "${financial.summary-push.heartbeat:25s}")
+    public void heartbeat() {
+        PendingEvent ping = new PendingEvent(null, "ping");
+        periodSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(ping)));
+        parkSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    private void push(Long periodId, Long parkId) {
+        FinancialService.FinancialSummary summary;
+        try {
+            summary = summaryFromPrimary(periodId);
+        } catch (NoSuchElementException ex) {
+            lastSent.remove(periodId);
+            PendingEvent removed = new PendingEvent("removed", new PeriodRemoved(periodId, parkId));
+            broadcast(periodSubscribers.get(periodId), removed);
+            broadcast(parkSubscribers.get(parkId), removed);
+            Set<Subscriber> subscribers = periodSubscribers.remove(periodId);
+            if (subscribers != null) {
+                subscribers.forEach(Subscriber::completeAfterQueued);
+            }
+            return;
+        }
+
+        // edicoes que se anulam na mesma janela nao geram evento
+        if (Objects.equals(lastSent.put(periodId, summary), summary)) {
+            return;
+        }
+        PendingEvent event = new PendingEvent("summary", summary);
+        broadcast(periodSubscribers.get(periodId), event);
+        broadcast(parkSubscribers.get(parkId), event);
+        if (!periodSubscribers.containsKey(periodId)) {
+            lastSent.remove(periodId);
+        }
+    }
+
+    // o evento chega logo apos o commit; a replica pode ainda nao ter a alteracao
+    private FinancialService.FinancialSummary summaryFromPrimary(Long periodId) {
+        return ReportingBulkhead.call(
+                () -> ReplicaRoutingDataSource.onPrimary(() -> financialService.calculateSummary(periodId))
+        );
+    }
+
+    private Subscriber register(Map<Long, Set<Subscriber>> subscribers, Long key) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        subscribers.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        Runnable unregister = () -> {
+            subscribers.computeIfPresent(key, (ignored, current) -> {
+                current.remove(subscriber);
+                return current.isEmpty() ? null : current;
+            });
+            if (subscribers == periodSubscribers && !periodSubscribers.containsKey(key)) {
+                lastSent.remove(key);
+            }
+        };
+        subscriber.emitter.onCompletion(unregister);
+        subscriber.emitter.onTimeout(unregister);
+        subscriber.emitter.onError(ignored -> unregister.run());
+        return subscriber;
+    }
+
+    private void broadcast(Set<Subscriber> subscribers, PendingEvent event) {
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    // Fila propria por cliente; travado alem do send-timeout ou com fila cheia e desconectado
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<PendingEvent> queued = new ArrayDeque<>();
+        private boolean sending;
+        private boolean completeWhenDrained;
+        private boolean dropped;
+        private long sendingSince;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(PendingEvent event) {
+            boolean startDrain = false;
+            boolean tooSlow;
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                tooSlow = queued.size() >= maxQueuedEvents
+                        || (sending && System.nanoTime() - sendingSince > sendTimeoutNanos);
+                if (!tooSlow) {
+                    queued.add(event);
+                    if (!sending) {
+                        sending = true;
+                        sendingSince = System.nanoTime();
+                        startDrain = true;
+                    }
+                }
+            }
+            if (tooSlow) {
+                drop(new IOException("SSE subscriber is not keeping up"));
+            } else if (startDrain) {
+                try {
+                    summaryPushExecutor.execute(this::drain);
+                } catch (TaskRejectedException ex) {
+                    drop(ex);
+                }
+            }
+        }
+
+        void completeAfterQueued() {
+            synchronized (this) {
+                if (sending || !queued.isEmpty()) {
+                    completeWhenDrained = true;
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private void drain() {
+            while (true) {
+                PendingEvent event;
+                synchronized (this) {
+                    event = queued.poll();
+                    if (event == null) {
+                        sending = false;
+                        if (!completeWhenDrained) {
+                            return;
+                        }
+                    } else {
+                        sendingSince = System.nanoTime();
+                    }
+                }
+                if (event == null) {
+                    emitter.complete();
+                    return;
+                }
+                try {
+                    emitter.send(event.toSse());
+                } catch (IOException | IllegalStateException ex) {
+                    drop(ex);
+                    return;
+                }
+            }
+        }
+
+        private void drop(Throwable cause) {
+            synchronized (this) {
+                queued.clear();
+                dropped = true;
+            }
+            emitter.completeWithError(cause);
+        }
+    }
+
+    // Sem nome vira linha de comentario (heartbeat)
+    private record PendingEvent(String name, Object data) {
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment(String.valueOf(data));
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    public record PeriodChanged(
+            Long periodId,
+            Long parkId
+    ) {}
+
+    public record PeriodRemoved(
+            Long periodId,
+            Long parkId
+    ) {}
+}
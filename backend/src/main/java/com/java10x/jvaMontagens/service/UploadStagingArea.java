@@ -0,0 +1,228 @@
+package com.java10x.jvaMontagens.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Sessoes so em memoria; cada chunk vai direto para o arquivo de staging
+@Component
+public class UploadStagingArea {
+    private static final Logger log = LoggerFactory.getLogger(UploadStagingArea.class);
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Path stagingDir;
+    private final Duration sessionTtl;
+    private final Map<String, StagedUpload> uploads = new ConcurrentHashMap<>();
+
+    public UploadStagingArea(
+            @Value("${upload.staging-dir:${java.io.tmpdir}/jva-montagens-uploads}") String stagingDir,
+            @Value("${upload.session-ttl-hours:24}") long sessionTtlHours
+    ) {
+        this.stagingDir = Path.of(stagingDir);
+        this.sessionTtl = Duration.ofHours(sessionTtlHours);
+        // Sessoes so existem em memoria: o que sobrou de uma execucao anterior nao tem dono
+        deleteOrphanedFiles();
+    }
+
+    public StagedUpload open(Long parkId, String fileName, String contentType, long totalSize) throws IOException {
+        Files.createDirectories(stagingDir);
+
+        String uploadId = UUID.randomUUID().toString();
+        Path file = Files.createFile(stagingDir.resolve(uploadId + ".part"));
+        StagedUpload upload = new StagedUpload(uploadId, parkId, fileName, contentType, totalSize, file);
+        uploads.put(uploadId, upload);
+        return upload;
+    }
+
+    public StagedUpload get(String uploadId) {
+        StagedUpload upload = uploadId == null ? null : uploads.get(uploadId);
+        if (upload == null) {
+            throw new NoSuchElementException("Upload session not found for id " + uploadId);
+        }
+        upload.touch();
+        return upload;
+    }
+
+    public long receivedBytes(StagedUpload upload) throws IOException {
+        return Files.size(upload.file());
+    }
+
+    // Offset atras do recebido reescreve, para reenviar chunk sem confirmacao
+    public long append(StagedUpload upload, long offset, InputStream content) throws IOException {
+        upload.lock.lock();
+        try {
+            if (upload.completing) {
+                throw new IllegalStateException("Upload session is already being completed.");
+            }
+
+            long received = receivedBytes(upload);
+            if (offset < 0 || offset > received) {
+                throw new IllegalStateException("Chunk offset " + offset + " does not match received bytes " + received + ".");
+            }
+
+            try (FileChannel channel = FileChannel.open(upload.file(), StandardOpenOption.WRITE)) {
+                channel.truncate(offset);
+                channel.position(offset);
+
+                long remaining = upload.totalSize() - offset;
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                long written = 0;
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    if (written + read > remaining) {
+                        channel.truncate(offset);
+                        throw new IllegalArgumentException("Chunk exceeds the declared file size.");
+                    }
+                    channel.write(ByteBuffer.wrap(buffer, 0, read));
+                    written += read;
+                }
+                return offset + written;
+            }
+        } finally {
+            upload.touch();
+            upload.lock.unlock();
+        }
+    }
+
+    public void beginCompletion(StagedUpload upload) throws IOException {
+        upload.lock.lock();
+        try {
+            if (upload.completing) {
+                throw new IllegalStateException("Upload session is already being completed.");
+            }
+            long received = receivedBytes(upload);
+            if (received != upload.totalSize()) {
+                throw new IllegalStateException(
+                        "Upload is incomplete: received " + received + " of " + upload.totalSize() + " bytes."
+                );
+            }
+            upload.completing = true;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public void abortCompletion(StagedUpload upload) {
+        upload.lock.lock();
+        try {
+            upload.completing = false;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public String sha256Hex(StagedUpload upload) throws IOException {
+        try (InputStream in = Files.newInputStream(upload.file())) {
+            return FileHashUtils.sha256Hex(in);
+        }
+    }
+
+    public void discard(String uploadId) throws IOException {
+        StagedUpload upload = uploads.remove(uploadId);
+        if (upload != null) {
+            Files.deleteIfExists(upload.file());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${upload.purge-interval:15m}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(sessionTtl);
+        for (StagedUpload upload : uploads.values()) {
+            if (!upload.lastActivity.isBefore(cutoff) || !upload.lock.tryLock()) {
+                continue;
+            }
+            try {
+                // Sessao em conclusao ainda esta sendo lida por completeMediaUpload
+                if (upload.completing || !upload.lastActivity.isBefore(cutoff)) {
+                    continue;
+                }
+                uploads.remove(upload.uploadId());
+                Files.deleteIfExists(upload.file());
+            } catch (IOException ex) {
+                log.warn("Could not delete expired staging file {}", upload.file(), ex);
+            } finally {
+                upload.lock.unlock();
+            }
+        }
+    }
+
+    private void deleteOrphanedFiles() {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir, "*.part")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ex) {
+            log.warn("Could not clean staging directory {}", stagingDir, ex);
+        }
+    }
+
+    public static final class StagedUpload {
+        private final String uploadId;
+        private final Long parkId;
+        private final String fileName;
+        private final String contentType;
+        private final long totalSize;
+        private final Path file;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Instant lastActivity = Instant.now();
+        private volatile boolean completing;
+
+        private StagedUpload(String uploadId, Long parkId, String fileName, String contentType, long totalSize, Path file) {
+            this.uploadId = uploadId;
+            this.parkId = parkId;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.file = file;
+        }
+
+        public String uploadId() {
+            return uploadId;
+        }
+
+        public Long parkId() {
+            return parkId;
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public long totalSize() {
+            return totalSize;
+        }
+
+        public Path file() {
+            return file;
+        }
+
+        private void touch() {
+            lastActivity = Instant.now();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.java10x.jvaMontagens.service;
 
 import com.java10x.jvaMontagens.model.UserModel;
 import com.java10x.jvaMontagens.repository.UserRepository;
+import com.java10x.jvaMontagens.security.AdminPrincipalCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -12,10 +13,12 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AdminPrincipalCache adminPrincipalCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AdminPrincipalCache adminPrincipalCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.adminPrincipalCache = adminPrincipalCache;
     }
     
     public UserModel createUser(UserModel user) {
@@ -35,11 +38,15 @@ public class UserService {
     public UserModel updateUser(UserModel user) {
         user.setCpf(DocumentUtils.normalizeCpf(user.getCpf()));
         user.setPassword(normalizePassword(user.getPassword()));
-        return userRepository.save(user);
+        UserModel saved = userRepository.save(user);
+        adminPrincipalCache.invalidate(saved.getCpf());
+        return saved;
     }
     
     public void deleteUserByCpf(String cpf) {
-        userRepository.deleteById(DocumentUtils.normalizeCpf(cpf));
+        String normalizedCpf = DocumentUtils.normalizeCpf(cpf);
+        userRepository.deleteById(normalizedCpf);
+        adminPrincipalCache.invalidate(normalizedCpf);
     }
 
     private String normalizePassword(String password) {
@@ -0,0 +1,43 @@
+package com.java10x.jvaMontagens.service;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public final class ZipArchiveUtils {
+    private ZipArchiveUtils() {
+    }
+
+    // Conteudo ja comprimido vai como STORED
+    public static void writeEntry(ZipOutputStream zip, String entryName, String contentType, byte[] data) throws IOException {
+        ZipEntry entry = new ZipEntry(entryName);
+        if (isAlreadyCompressed(contentType)) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+
+        zip.putNextEntry(entry);
+        zip.write(data);
+        zip.closeEntry();
+    }
+
+    static boolean isAlreadyCompressed(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return normalized.startsWith("video/")
+                || "application/pdf".equals(normalized)
+                || "image/jpeg".equals(normalized)
+                || "image/png".equals(normalized)
+                || "image/gif".equals(normalized)
+                || "image/webp".equals(normalized)
+                || "image/heic".equals(normalized);
+    }
+}
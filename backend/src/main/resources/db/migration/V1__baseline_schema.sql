@@ -0,0 +1,173 @@
+-- Esquema inicial, igual ao que o ddl-auto=update gerava a partir das entidades.
+-- Bancos ja existentes entram na versao 1 via baseline e comecam a migrar a partir da 2.
+
+create table clients (
+    cnpj varchar(14) not null,
+    contact_phone varchar(20),
+    email varchar(150),
+    name varchar(150) not null,
+    primary key (cnpj)
+);
+
+create table financial_periods (
+    car_rental_value numeric(12,2) not null,
+    fiscal_month integer not null,
+    fiscal_year integer not null,
+    jva_price_per_meter numeric(12,2) not null,
+    leader_price_per_meter numeric(12,2) not null,
+    tax_rate numeric(6,4) not null,
+    administrator_id bigint,
+    id bigint generated by default as identity,
+    park_id bigint not null,
+    status varchar(255) not null check ((status in ('OPEN','CLOSED'))),
+    primary key (id),
+    constraint uk_park_year_month unique (park_id, fiscal_year, fiscal_month)
+);
+
+create table funcionarios (
+    active boolean not null,
+    daily_rate numeric(12,2),
+    price_per_meter numeric(12,2),
+    id bigint generated by default as identity,
+    user_cpf varchar(11) unique,
+    cpf varchar(14),
+    name varchar(120) not null,
+    pix_key varchar(120),
+    gov_email varchar(150),
+    gov_password varchar(200),
+    role varchar(255) not null check ((role in ('ADMINISTRATOR','LEADER','ASSEMBLER'))),
+    primary key (id)
+);
+
+create table park_media (
+    file_size bigint not null,
+    id bigint generated by default as identity,
+    park_id bigint not null,
+    uploaded_at timestamp(6) not null,
+    content_type varchar(120) not null,
+    file_name varchar(255) not null,
+    file_bytes bytea not null,
+    primary key (id)
+);
+
+create table parks (
+    state varchar(2),
+    id bigint generated by default as identity,
+    client_cnpj varchar(14) not null,
+    city varchar(80),
+    name varchar(120) not null,
+    primary key (id)
+);
+
+create table payment_entries (
+    amount numeric(12,2) not null,
+    has_receipt boolean,
+    payment_date date not null,
+    employee_id bigint,
+    financial_id bigint not null,
+    id bigint generated by default as identity,
+    receipt_size bigint,
+    client_cnpj varchar(14),
+    receipt_content_type varchar(120),
+    notes varchar(500),
+    category varchar(255) not null check ((category in ('CLIENT_PAYMENT','EMPLOYEE_HELPER','EMPLOYEE_LEADER','TAX','CAR_RENTAL','OTHER'))),
+    invoice_number varchar(255),
+    name varchar(255) not null,
+    receipt_file_name varchar(255),
+    receipt_bytes bytea,
+    primary key (id)
+);
+
+create table service_entries (
+    days integer,
+    end_date date,
+    gross_value numeric(14,2) not null,
+    meters numeric(12,2) not null,
+    start_date date,
+    unit_price numeric(12,2) not null,
+    financial_id bigint not null,
+    id bigint generated by default as identity,
+    leader_id bigint,
+    notes varchar(500),
+    service_type varchar(255) not null check ((service_type in ('ASSEMBLY','DISASSEMBLY','MAINTENANCE','OTHER'))),
+    team_type varchar(255) not null,
+    primary key (id)
+);
+
+create table service_helpers (
+    daily_rate_used numeric(12,2) not null,
+    days_used integer not null,
+    total_cost numeric(12,2) not null,
+    employee_id bigint not null,
+    id bigint generated by default as identity,
+    service_entry_id bigint not null,
+    primary key (id)
+);
+
+create table users (
+    cpf varchar(11) not null,
+    full_name varchar(120) not null,
+    email varchar(150) not null unique,
+    password varchar(200) not null,
+    primary key (cpf)
+);
+
+alter table if exists financial_periods
+   add constraint FKcqf1687vvsc3wu3ubhqfq36ia
+   foreign key (administrator_id)
+   references funcionarios;
+
+alter table if exists financial_periods
+   add constraint FKr4f7vow8w74dcuihtiy9jp2rt
+   foreign key (park_id)
+   references parks;
+
+alter table if exists funcionarios
+   add constraint FK87t6epip10y3ri2mv75p5d14g
+   foreign key (user_cpf)
+   references users;
+
+alter table if exists park_media
+   add constraint FKjq04r8cl0ukm9b11e1nkxi3ie
+   foreign key (park_id)
+   references parks;
+
+alter table if exists parks
+   add constraint FKot63xdy0cye9wlhhv1fmmsj0r
+   foreign key (client_cnpj)
+   references clients;
+
+alter table if exists payment_entries
+   add constraint FK7b7nvj34rc9lxjkm3kkrd4wba
+   foreign key (client_cnpj)
+   references clients;
+
+alter table if exists payment_entries
+   add constraint FKmecu37o653bjqhx0mgmojich
+   foreign key (employee_id)
+   references funcionarios;
+
+alter table if exists payment_entries
+   add constraint FKpj83te97vwk3syay9b7c1t9av
+   foreign key (financial_id)
+   references financial_periods;
+
+alter table if exists service_entries
+   add constraint FK9sd50kpdkpt52u45xdj4n7car
+   foreign key (financial_id)
+   references financial_periods;
+
+alter table if exists service_entries
+   add constraint FK577iccurq78kevujpcgp1o1yu
+   foreign key (leader_id)
+   references funcionarios;
+
+alter table if exists service_helpers
+   add constraint FKghggwd7fjoah2fqik6qqyr0o7
+   foreign key (employee_id)
+   references funcionarios;
+
+alter table if exists service_helpers
+   add constraint FKhnsudmcrmi36gastiu9igmq36
+   foreign key (service_entry_id)
+   references service_entries;
@@ -0,0 +1,24 @@
+-- Colunas e tabela que as entidades ganharam depois do esquema inicial.
+-- "if not exists": bancos que rodaram essas versoes com ddl-auto=update ja tem parte delas.
+
+-- Hash do conteudo para ETag de midias e comprovantes
+alter table park_media add column if not exists content_hash varchar(64);
+alter table payment_entries add column if not exists receipt_hash varchar(64);
+
+-- Totais de armazenamento por parque; parques sem linha sao somados na primeira leitura
+create table if not exists park_storage_usage (
+    media_bytes bigint not null,
+    media_count bigint not null,
+    park_id bigint not null,
+    receipt_bytes bigint not null,
+    receipt_count bigint not null,
+    primary key (park_id)
+);
+
+-- Metadados extraidos em segundo plano; midias antigas ficam sem status e entram na varredura
+alter table park_media add column if not exists width integer;
+alter table park_media add column if not exists height integer;
+alter table park_media add column if not exists captured_at timestamp(6);
+alter table park_media add column if not exists duration_ms bigint;
+alter table park_media add column if not exists metadata_status varchar(20)
+    check ((metadata_status in ('PENDING','EXTRACTED','FAILED')));
@@ -0,0 +1,29 @@
+-- Chaves estrangeiras: o Postgres nao cria indice para o lado que referencia.
+-- Onde a listagem pagina pela mesma coluna, o indice composto ja cobre a chave.
+
+-- Servicos do periodo, paginados por id
+create index if not exists idx_service_entries_financial_id on service_entries (financial_id, id);
+create index if not exists idx_service_entries_leader_id on service_entries (leader_id);
+
+create index if not exists idx_service_helpers_service_entry_id on service_helpers (service_entry_id);
+create index if not exists idx_service_helpers_employee_id on service_helpers (employee_id);
+
+-- Pagamentos do periodo: filtro por categoria e paginacao por data
+create index if not exists idx_payment_entries_financial_category on payment_entries (financial_id, category);
+create index if not exists idx_payment_entries_financial_date on payment_entries (financial_id, payment_date, id);
+create index if not exists idx_payment_entries_employee_id on payment_entries (employee_id);
+create index if not exists idx_payment_entries_client_cnpj on payment_entries (client_cnpj);
+
+-- Galeria do parque, mais recentes primeiro
+create index if not exists idx_park_media_park_uploaded_at on park_media (park_id, uploaded_at desc, id desc);
+
+-- Parques por cliente e paginacao por nome
+create index if not exists idx_parks_client_cnpj on parks (client_cnpj, name, id);
+create index if not exists idx_parks_name on parks (name, id);
+
+-- Periodos: o unique (park_id, fiscal_year, fiscal_month) atende o filtro por parque
+create index if not exists idx_financial_periods_recent on financial_periods (fiscal_year desc, fiscal_month desc, id desc);
+create index if not exists idx_financial_periods_administrator_id on financial_periods (administrator_id);
+
+create index if not exists idx_clients_name on clients (name, cnpj);
+create index if not exists idx_funcionarios_name on funcionarios (name, id);
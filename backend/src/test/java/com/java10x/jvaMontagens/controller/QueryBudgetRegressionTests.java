@@ -0,0 +1,224 @@
+package com.java10x.jvaMontagens.controller;
+
+import com.java10x.jvaMontagens.dev.SyntheticDataGenerator;
+import com.java10x.jvaMontagens.model.PaymentEntryModel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Orcamentos exatos de SQL por endpoint sobre dados fixos; uma consulta a mais exige subir o orcamento junto
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("regression")
+class QueryBudgetRegressionTests {
+    private static final String PASSWORD = "regression";
+    private static final int LATENCY_RUNS = 5;
+
+    private static String adminEmail;
+    private static long parkId;
+    private static long periodId;
+    private static String token;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void seed(@Autowired DataSource dataSource, @Autowired PasswordEncoder passwordEncoder) throws Exception {
+        SyntheticDataGenerator.Settings settings = new SyntheticDataGenerator.Settings(
+                2026L,
+                3,
+                2,
+                YearMonth.of(2026, 6),
+                12,
+                1,
+                passwordEncoder.encode(PASSWORD),
+                4,
+                12,
+                30,
+                3,
+                40,
+                0.5,
+                2 * 1024,
+                40,
+                4 * 1024,
+                500
+        );
+        new SyntheticDataGenerator(dataSource).generate(settings);
+        adminEmail = SyntheticDataGenerator.adminEmail(settings.seed(), 0);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        parkId = jdbc.queryForObject("select min(id) from parks", Long.class);
+        periodId = jdbc.queryForObject("""
+                select f.id from financial_periods f
+                join service_entries s on s.financial_id = f.id
+                where f.park_id = ?
+                group by f.id
+                order by count(*) desc, f.id
+                limit 1
+                """, Long.class, parkId);
+    }
+
+    @Test
+    void periodSummary() throws Exception {
+        assertBudget("/financial/periods/{periodId}/summary", "/financial/periods/" + periodId + "/summary", 4, 500);
+    }
+
+    @Test
+    void parkOverview() throws Exception {
+        assertBudget("/financial/parks/{parkId}/overview", "/financial/parks/" + parkId + "/overview", 5, 1000);
+    }
+
+    @Test
+    void carRentalSummaryForPark() throws Exception {
+        assertBudget("/financial/car-rentals/summary", "/financial/car-rentals/summary?parkId=" + parkId, 2, 500);
+    }
+
+    @Test
+    void carRentalSummaryForAllParks() throws Exception {
+        assertBudget("/financial/car-rentals/summary", "/financial/car-rentals/summary", 1, 1000);
+    }
+
+    @Test
+    void serviceList() throws Exception {
+        assertBudget(
+                "/financial/periods/{periodId}/services",
+                "/financial/periods/" + periodId + "/services?limit=200",
+                3,
+                500
+        );
+    }
+
+    @Test
+    void paymentList() throws Exception {
+        long loadedBefore = paymentEntitiesLoaded();
+        assertBudget(
+                "/financial/periods/{periodId}/payments",
+                "/financial/periods/" + periodId + "/payments?limit=200",
+                2,
+                500
+        );
+        // Cada entidade carregada traz junto o receipt_bytes, que a listagem nao devolve
+        assertEquals(
+                loadedBefore,
+                paymentEntitiesLoaded(),
+                "payment list loaded PaymentEntryModel rows, and with them the receipt bytes"
+        );
+    }
+
+    @Test
+    void mediaList() throws Exception {
+        assertBudget("/parks/{parkId}/media", "/parks/" + parkId + "/media", 2, 500);
+    }
+
+    // A primeira chamada aquece e nao entra na mediana de latencia
+    private void assertBudget(String endpoint, String path, int maxStatements, long maxMedianMillis) throws Exception {
+        long[] latencies = new long[LATENCY_RUNS];
+        for (int run = -1; run < LATENCY_RUNS; run++) {
+            DistributionSummary statements = statementSummary(endpoint);
+            long countBefore = statements == null ? 0 : statements.count();
+            double totalBefore = statements == null ? 0 : statements.totalAmount();
+
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response = http.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                            .header("Authorization", "Bearer " + token())
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray()
+            );
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            assertEquals(200, response.statusCode(), path + " failed: " + new String(response.body()));
+
+            // Requisicoes async registram quando terminam, o que pode vir logo depois da resposta
+            statements = awaitRecorded(endpoint, countBefore);
+            double executed = statements.totalAmount() - totalBefore;
+            assertTrue(
+                    executed <= maxStatements,
+                    path + " ran " + (long) executed + " SQL statements, budget is " + maxStatements
+                            + "; see the statement budget warning in the log for the repeated queries"
+            );
+            if (run >= 0) {
+                latencies[run] = elapsedMillis;
+            }
+        }
+        Arrays.sort(latencies);
+        long median = latencies[LATENCY_RUNS / 2];
+        assertTrue(median <= maxMedianMillis, path + " median latency " + median + " ms, bound is " + maxMedianMillis + " ms");
+    }
+
+    private long paymentEntitiesLoaded() {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getEntityStatistics(PaymentEntryModel.class.getName())
+                .getLoadCount();
+    }
+
+    private DistributionSummary statementSummary(String endpoint) {
+        return meterRegistry.find("http.server.requests.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", endpoint)
+                .summary();
+    }
+
+    private DistributionSummary awaitRecorded(String endpoint, long countBefore) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            DistributionSummary statements = statementSummary(endpoint);
+            if (statements != null && statements.count() > countBefore) {
+                return statements;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("No SQL statement count recorded for " + endpoint);
+    }
+
+    private String token() throws Exception {
+        if (token == null) {
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    objectMapper.writeValueAsString(Map.of("email", adminEmail, "password", PASSWORD))
+                            ))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            assertEquals(200, response.statusCode(), "login failed: " + response.body());
+            token = objectMapper.readTree(response.body()).path("accessToken").asString();
+        }
+        return token;
+    }
+}
@@ -0,0 +1,471 @@
+package com.java10x.jvaMontagens.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga HTTP com o fluxo de um administrador: abre a visao geral de um parque,
+ * lista e lanca servicos, lista e lanca pagamentos, envia um comprovante e abre o resumo
+ * do periodo. Cada admin virtual repete o fluxo com pausas entre os passos; no fim imprime
+ * vazao e p50/p95/p99 por endpoint.
+ * <p>
+ * Aponte para uma instancia ja rodando e populada (perfil synthetic-data) e aumente
+ * {@code concurrency} ate a latencia estourar ou os erros aparecerem:
+ * mvn -Pload test-compile exec:exec -Dload.args="--concurrency=50 --duration=2m"
+ * <p>
+ * Opcoes ({@code --nome=valor}): url, users (e-mails separados por virgula), password,
+ * concurrency, duration, warmup, think-time, receipt-size. Os lancamentos ficam no banco.
+ */
+public class AdminLoadDriver {
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Options options;
+    private final HttpClient http;
+    private final Recorder recorder = new Recorder();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private final AtomicLong workflows = new AtomicLong();
+    private final byte[] receipt;
+
+    private List<Long> parkIds;
+    private List<Long> leaderIds;
+    private List<Long> assemblerIds;
+
+    AdminLoadDriver(Options options) {
+        this.options = options;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        this.receipt = new byte[options.receiptBytes()];
+        ThreadLocalRandom.current().nextBytes(receipt);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        AdminLoadDriver driver = new AdminLoadDriver(options);
+        driver.discover();
+        driver.run();
+        System.exit(0);
+    }
+
+    // Parques e funcionarios que os fluxos vao usar, lidos uma vez com o primeiro admin
+    private void discover() throws Exception {
+        String token = token(options.users().get(0));
+        parkIds = ids(get(token, "/parks?limit=200", null));
+        leaderIds = ids(get(token, "/funcionarios?role=LEADER&onlyActive=true&limit=200", null));
+        assemblerIds = ids(get(token, "/funcionarios?role=ASSEMBLER&onlyActive=true&limit=200", null));
+        if (parkIds.isEmpty()) {
+            throw new IllegalStateException("No parks found at " + options.url() + "; generate data first.");
+        }
+        System.out.printf(
+                "Target %s: %d parks, %d leaders, %d assemblers, %d admin logins%n",
+                options.url(), parkIds.size(), leaderIds.size(), assemblerIds.size(), options.users().size()
+        );
+    }
+
+    private void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+        recorder.measureFrom(measureFrom);
+
+        ExecutorService admins = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            String user = options.users().get(i % options.users().size());
+            admins.execute(() -> adminLoop(user, deadline, measureFrom));
+        }
+        admins.shutdown();
+        System.out.printf(
+                "Running %d admins: %ds warmup, %ds measured%n",
+                options.concurrency(), options.warmup().toSeconds(), options.duration().toSeconds()
+        );
+        admins.awaitTermination(options.warmup().plus(options.duration()).toSeconds() + 120, TimeUnit.SECONDS);
+        admins.shutdownNow();
+
+        recorder.print(options, workflows.get());
+    }
+
+    private void adminLoop(String user, long deadline, long measureFrom) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Espalha o inicio para os admins nao chegarem todos juntos
+        pause(random.nextLong(Math.max(1L, options.thinkTime().toMillis() * 2)));
+        while (System.nanoTime() < deadline) {
+            try {
+                workflow(token(user), random);
+                if (System.nanoTime() >= measureFrom) {
+                    workflows.incrementAndGet();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                // Falha ja contada no endpoint; recomeca o fluxo em outro parque
+                pause(options.thinkTime().toMillis());
+            }
+        }
+    }
+
+    private void workflow(String token, ThreadLocalRandom random) throws Exception {
+        long parkId = parkIds.get(random.nextInt(parkIds.size()));
+
+        get(token, "/financial/parks/" + parkId + "/overview", "GET /financial/parks/{parkId}/overview");
+        think(random);
+
+        List<JsonNode> periods = items(get(token, "/financial/periods?parkId=" + parkId + "&limit=12",
+                "GET /financial/periods"));
+        if (periods.isEmpty()) {
+            return;
+        }
+        JsonNode period = periods.get(random.nextInt(Math.min(3, periods.size())));
+        long periodId = period.path("id").asLong();
+        think(random);
+
+        get(token, "/financial/periods/" + periodId + "/services?limit=50",
+                "GET /financial/periods/{periodId}/services");
+        think(random);
+        post(token, "/financial/periods/" + periodId + "/services", serviceBody(period, random),
+                "POST /financial/periods/{periodId}/services");
+        think(random);
+
+        get(token, "/financial/periods/" + periodId + "/payments?limit=50",
+                "GET /financial/periods/{periodId}/payments");
+        think(random);
+        JsonNode payment = post(token, "/financial/periods/" + periodId + "/payments", paymentBody(period, random),
+                "POST /financial/periods/{periodId}/payments");
+        think(random);
+
+        upload(token, "/financial/payments/" + payment.path("id").asLong() + "/receipt",
+                "POST /financial/payments/{paymentId}/receipt");
+        think(random);
+
+        get(token, "/financial/periods/" + periodId + "/summary", "GET /financial/periods/{periodId}/summary");
+        think(random);
+    }
+
+    private Map<String, Object> serviceBody(JsonNode period, ThreadLocalRandom random) {
+        int days = 1 + random.nextInt(5);
+        LocalDate start = periodDay(period, random);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("serviceType", "ASSEMBLY");
+        body.put("teamType", "UNSPECIFIED");
+        body.put("meters", 50 + random.nextInt(500));
+        body.put("startDate", start.toString());
+        body.put("endDate", start.plusDays(days - 1L).toString());
+        if (!leaderIds.isEmpty()) {
+            body.put("leaderId", leaderIds.get(random.nextInt(leaderIds.size())));
+        }
+        if (!assemblerIds.isEmpty()) {
+            List<Map<String, Object>> helpers = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(2); i++) {
+                helpers.add(Map.of(
+                        "employeeId", assemblerIds.get(random.nextInt(assemblerIds.size())),
+                        "daysUsed", days
+                ));
+            }
+            body.put("helpers", helpers);
+        }
+        return body;
+    }
+
+    private Map<String, Object> paymentBody(JsonNode period, ThreadLocalRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentDate", periodDay(period, random).toString());
+        body.put("name", "Carga " + random.nextInt(100_000));
+        body.put("amount", 100 + random.nextInt(2_000));
+        body.put("category", "OTHER");
+        return body;
+    }
+
+    private static LocalDate periodDay(JsonNode period, ThreadLocalRandom random) {
+        return LocalDate.of(period.path("year").asInt(), period.path("month").asInt(), 1 + random.nextInt(28));
+    }
+
+    // Um login por e-mail, compartilhado pelos admins virtuais que usam o mesmo usuario
+    private String token(String user) throws Exception {
+        String cached = tokens.get(user);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (tokens) {
+            cached = tokens.get(user);
+            if (cached != null) {
+                return cached;
+            }
+            String body = JSON.writeValueAsString(Map.of("email", user, "password", options.password()));
+            while (true) {
+                HttpResponse<byte[]> response = send(request("/auth/login", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), "POST /auth/login");
+                if (response.statusCode() == 429) {
+                    // Login tem limite por e-mail e por endereco; espera o que o servidor pedir
+                    pause(retryAfterMillis(response));
+                    continue;
+                }
+                String token = JSON.readTree(checked(response, "/auth/login")).path("accessToken").asString();
+                tokens.put(user, token);
+                return token;
+            }
+        }
+    }
+
+    private JsonNode get(String token, String path, String endpoint) throws Exception {
+        HttpResponse<byte[]> response = send(request(path, token).GET().build(), endpoint);
+        return JSON.readTree(checked(response, path));
+    }
+
+    private JsonNode post(String token, String path, Object body, String endpoint) throws Exception {
+        HttpResponse<byte[]> response = send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build(), endpoint);
+        return JSON.readTree(checked(response, path));
+    }
+
+    private void upload(String token, String path, String endpoint) throws Exception {
+        String boundary = "----load" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        ByteArrayOutputStream body = new ByteArrayOutputStream(receipt.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"comprovante.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(receipt);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        HttpResponse<byte[]> response = send(request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build(), endpoint);
+        checked(response, path);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.url() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // Mede do envio ate o ultimo byte do corpo; endpoint nulo nao entra no relatorio
+    private HttpResponse<byte[]> send(HttpRequest request, String endpoint) throws Exception {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (endpoint != null) {
+                recorder.record(endpoint, started, System.nanoTime(), response.statusCode());
+            }
+            return response;
+        } catch (Exception ex) {
+            if (endpoint != null) {
+                recorder.record(endpoint, started, System.nanoTime(), 0);
+            }
+            throw ex;
+        }
+    }
+
+    private static byte[] checked(HttpResponse<byte[]> response, String path) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        return items(page).stream().map(item -> item.path("id").asLong()).toList();
+    }
+
+    private static List<JsonNode> items(JsonNode page) {
+        List<JsonNode> items = new ArrayList<>();
+        page.path("items").forEach(items::add);
+        return items;
+    }
+
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> Long.parseLong(value.trim()) * 1000)
+                .orElse(1000L);
+    }
+
+    private void think(ThreadLocalRandom random) {
+        long mean = options.thinkTime().toMillis();
+        if (mean > 0) {
+            pause(mean / 2 + random.nextLong(mean + 1));
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Options(
+            String url,
+            List<String> users,
+            String password,
+            int concurrency,
+            Duration duration,
+            Duration warmup,
+            Duration thinkTime,
+            int receiptBytes
+    ) {
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            String users = values.getOrDefault("users", defaultUsers());
+            return new Options(
+                    stripTrailingSlash(values.getOrDefault("url", "http://localhost:8080")),
+                    Arrays.stream(users.split(",")).map(String::trim).filter(user -> !user.isEmpty()).toList(),
+                    values.getOrDefault("password", "synthetic"),
+                    Integer.parseInt(values.getOrDefault("concurrency", "10")),
+                    duration(values.getOrDefault("duration", "60s")),
+                    duration(values.getOrDefault("warmup", "15s")),
+                    duration(values.getOrDefault("think-time", "500ms")),
+                    Integer.parseInt(values.getOrDefault("receipt-size", "204800"))
+            );
+        }
+
+        // Os admins que o perfil synthetic-data cria com a seed padrao
+        private static String defaultUsers() {
+            List<String> users = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                users.add("admin" + i + ".42@synthetic.local");
+            }
+            return String.join(",", users);
+        }
+
+        private static Duration duration(String value) {
+            String text = value.trim().toLowerCase(Locale.ROOT);
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            long amount = Long.parseLong(text.substring(0, text.length() - 1));
+            return switch (text.charAt(text.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                default -> throw new IllegalArgumentException("Unsupported duration " + value);
+            };
+        }
+
+        private static String stripTrailingSlash(String url) {
+            return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        }
+    }
+
+    // Amostras guardadas inteiras para percentis exatos; o aquecimento e descartado
+    static final class Recorder {
+        private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+        private volatile long measureFrom;
+
+        void measureFrom(long nanos) {
+            measureFrom = nanos;
+        }
+
+        void record(String endpoint, long startedNanos, long finishedNanos, int status) {
+            if (startedNanos < measureFrom) {
+                return;
+            }
+            samples.computeIfAbsent(endpoint, ignored -> new Samples()).add(finishedNanos - startedNanos, status);
+        }
+
+        void print(Options options, long workflows) {
+            double seconds = options.duration().toNanos() / 1e9;
+            System.out.println();
+            System.out.printf("%-50s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+            samples.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        Samples endpoint = entry.getValue();
+                        long[] latencies = endpoint.sorted();
+                        System.out.printf("%-50s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                                entry.getKey(),
+                                latencies.length,
+                                endpoint.errors(),
+                                latencies.length / seconds,
+                                millis(percentile(latencies, 0.50)),
+                                millis(percentile(latencies, 0.95)),
+                                millis(percentile(latencies, 0.99)),
+                                millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+                        endpoint.statuses().ifPresent(statuses -> System.out.printf("%-50s %s%n", "", statuses));
+                    });
+            System.out.printf("%n%d admins, %d workflows completed, %.2f workflows/s%n",
+                    options.concurrency(), workflows, workflows / seconds);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+
+    static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final Map<Integer, Integer> errorStatuses = new LinkedHashMap<>();
+
+        synchronized void add(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (status == 0 || status >= 400) {
+                errorStatuses.merge(status, 1, Integer::sum);
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errorStatuses.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        // Status 0 = falha de conexao ou timeout
+        synchronized Optional<String> statuses() {
+            return errorStatuses.isEmpty() ? Optional.empty() : Optional.of("errors by status " + errorStatuses);
+        }
+    }
+}
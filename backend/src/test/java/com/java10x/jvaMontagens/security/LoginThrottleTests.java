@@ -0,0 +1,95 @@
+package com.java10x.jvaMontagens.security;
+
+import com.java10x.jvaMontagens.controller.ApiExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTests {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final String EMAIL = "admin@jva.com";
+
+    // email: 5 tentativas, uma nova a cada minuto; endereco: 20, uma a cada 6s
+    private final LoginThrottle throttle = new LoginThrottle(
+            5, Duration.ofMinutes(1), 20, Duration.ofSeconds(6), 1, Duration.ofSeconds(2), new SimpleMeterRegistry()
+    );
+
+    @Test
+    void emailBurstIsSpentThenRejected() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAttempt(EMAIL, "10.0.0.1", 0L);
+        }
+
+        LoginThrottledException ex = assertThrows(
+                LoginThrottledException.class,
+                () -> throttle.checkAttempt(EMAIL, "10.0.0.1", 0L)
+        );
+        assertEquals(60L, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void emailBucketRefillsOneAttemptPerPeriod() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAttempt(EMAIL, "10.0.0.1", 0L);
+        }
+
+        LoginThrottledException ex = assertThrows(
+                LoginThrottledException.class,
+                () -> throttle.checkAttempt(EMAIL, "10.0.0.1", 45 * SECOND)
+        );
+        assertEquals(15L, ex.getRetryAfterSeconds());
+
+        assertDoesNotThrow(() -> throttle.checkAttempt(EMAIL, "10.0.0.1", 60 * SECOND));
+        assertThrows(LoginThrottledException.class, () -> throttle.checkAttempt(EMAIL, "10.0.0.1", 60 * SECOND));
+    }
+
+    @Test
+    void lockedEmailStillAcceptsOtherAddresses() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAttempt(EMAIL, "203.0.113.7", 0L);
+        }
+        assertThrows(LoginThrottledException.class, () -> throttle.checkAttempt(EMAIL, "203.0.113.7", 0L));
+
+        assertDoesNotThrow(() -> throttle.checkAttempt(EMAIL, "10.0.0.1", 0L));
+    }
+
+    @Test
+    void addressBurstCoversManyEmails() {
+        for (int i = 0; i < 20; i++) {
+            throttle.checkAttempt("user" + i + "@jva.com", "10.0.0.1", 0L);
+        }
+
+        LoginThrottledException ex = assertThrows(
+                LoginThrottledException.class,
+                () -> throttle.checkAttempt("other@jva.com", "10.0.0.1", SECOND)
+        );
+        assertEquals(5L, ex.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> throttle.checkAttempt("other@jva.com", "10.0.0.1", 6 * SECOND));
+    }
+
+    @Test
+    void throttledLoginAnswers429WithRetryAfter() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAttempt(EMAIL, "10.0.0.1", 0L);
+        }
+        LoginThrottledException ex = assertThrows(
+                LoginThrottledException.class,
+                () -> throttle.checkAttempt(EMAIL, "10.0.0.1", 30 * SECOND)
+        );
+
+        ResponseEntity<Map<String, String>> response = new ApiExceptionHandler().handleLoginThrottled(ex);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
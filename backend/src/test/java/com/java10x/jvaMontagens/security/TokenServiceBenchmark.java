@@ -0,0 +1,53 @@
+package com.java10x.jvaMontagens.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da autenticacao por requisicao: token em cache (caminho comum), verificacao
+ * completa da assinatura (primeiro uso do token) e emissao no login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TokenServiceBenchmark {
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService("benchmark-secret-with-enough-length", 12, 10_000);
+        token = tokenService.generateToken("52998224725", "ADMINISTRATOR");
+        tokenService.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public TokenService.TokenData parseCachedToken() {
+        return tokenService.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public TokenService.TokenData verifySignature() {
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken("52998224725", "ADMINISTRATOR");
+    }
+}
@@ -0,0 +1,77 @@
+package com.java10x.jvaMontagens.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalizacao de CPF/CNPJ, chamada em todo login, cadastro e pagamento com cliente.
+ * Mistura documentos ja limpos e formatados ("123.456.789-09") como chegam do frontend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentUtilsBenchmark {
+    private static final int DOCUMENTS = 1_000;
+
+    private String[] cpfs;
+    private String[] cnpjs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        cpfs = new String[DOCUMENTS];
+        cnpjs = new String[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            String cpf = digits(random, 11);
+            String cnpj = digits(random, 14);
+            boolean formatted = i % 2 == 0;
+            cpfs[i] = formatted
+                    ? cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9)
+                    : cpf;
+            cnpjs[i] = formatted
+                    ? cnpj.substring(0, 2) + "." + cnpj.substring(2, 5) + "." + cnpj.substring(5, 8) + "/"
+                            + cnpj.substring(8, 12) + "-" + cnpj.substring(12)
+                    : cnpj;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS)
+    public void normalizeCpf(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(DocumentUtils.normalizeCpf(cpf));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS)
+    public void normalizeCnpj(Blackhole blackhole) {
+        for (String cnpj : cnpjs) {
+            blackhole.consume(DocumentUtils.normalizeCnpj(cnpj));
+        }
+    }
+
+    private static String digits(Random random, int length) {
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(random.nextInt(10));
+        }
+        return value.toString();
+    }
+}
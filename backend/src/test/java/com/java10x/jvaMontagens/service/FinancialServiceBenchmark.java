@@ -0,0 +1,201 @@
+package com.java10x.jvaMontagens.service;
+
+import com.java10x.jvaMontagens.model.FinancialModel;
+import com.java10x.jvaMontagens.model.FuncionariosModel;
+import com.java10x.jvaMontagens.model.JobRole;
+import com.java10x.jvaMontagens.model.ParkModel;
+import com.java10x.jvaMontagens.model.PaymentCategory;
+import com.java10x.jvaMontagens.model.ServiceEntryModel;
+import com.java10x.jvaMontagens.model.ServiceHelperModel;
+import com.java10x.jvaMontagens.repository.ClientRepository;
+import com.java10x.jvaMontagens.repository.FinancialRepository;
+import com.java10x.jvaMontagens.repository.FuncionarioRepository;
+import com.java10x.jvaMontagens.repository.ParkRepository;
+import com.java10x.jvaMontagens.repository.PaymentEntryRepository;
+import com.java10x.jvaMontagens.repository.ServiceEntryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Calculos do FinancialService sem banco: resumo do periodo (inclui o acumulo por lider)
+ * e agrupamento do aluguel de carros, sobre dados sinteticos de 1k a 100k lancamentos.
+ * Os repositorios sao stubs que devolvem listas prontas, entao o tempo medido e so o do
+ * calculo. mvn -Pbenchmark test-compile exec:exec -Djmh.args="FinancialService"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FinancialServiceBenchmark {
+    private static final long PERIOD_ID = 1L;
+
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    @Param({"10", "500"})
+    public int leaders;
+
+    private FinancialService financialService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        ParkModel park = new ParkModel();
+        park.setId(1L);
+        park.setName("Parque Benchmark");
+
+        FinancialModel period = period(PERIOD_ID, park, 2026, 3, random);
+        List<FuncionariosModel> leaderPool = new ArrayList<>();
+        for (int i = 0; i < leaders; i++) {
+            FuncionariosModel leader = new FuncionariosModel();
+            leader.setId((long) i + 1);
+            leader.setName("Lider " + i);
+            leader.setRole(JobRole.LEADER);
+            // Metade usa a taxa propria, metade cai na taxa do periodo
+            leader.setPricePerMeter(i % 2 == 0 ? money(random, 5, 15) : null);
+            leaderPool.add(leader);
+        }
+
+        List<ServiceEntryModel> services = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            ServiceEntryModel service = new ServiceEntryModel();
+            service.setId((long) i + 1);
+            service.setFinancial(period);
+            service.setLeader(i % 20 == 0 ? null : leaderPool.get(random.nextInt(leaders)));
+            service.setMeters(money(random, 10, 500));
+            for (int h = random.nextInt(3); h > 0; h--) {
+                ServiceHelperModel helper = new ServiceHelperModel();
+                helper.setTotalCost(money(random, 100, 600));
+                service.getHelpers().add(helper);
+            }
+            services.add(service);
+        }
+
+        // Pagamentos chegam somados por categoria, como a consulta agregada devolve
+        Map<PaymentCategory, PaymentTotals> paymentTotals = new EnumMap<>(PaymentCategory.class);
+        PaymentCategory[] categories = PaymentCategory.values();
+        for (int i = 0; i < entries / 2; i++) {
+            PaymentCategory category = categories[random.nextInt(categories.length)];
+            BigDecimal amount = money(random, 50, 5000);
+            paymentTotals.merge(
+                    category,
+                    new PaymentTotals(PERIOD_ID, category, 1L, amount),
+                    (current, added) -> new PaymentTotals(
+                            PERIOD_ID, category, current.paymentCount() + 1, current.total().add(added.total())
+                    )
+            );
+        }
+        List<PaymentTotals> payments = List.copyOf(paymentTotals.values());
+
+        // Aluguel de carros: um periodo por lancamento, espalhados por 50 parques e 10 anos
+        List<FinancialModel> periods = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            ParkModel periodPark = new ParkModel();
+            periodPark.setId((long) (i % 50) + 1);
+            periodPark.setName("Parque " + (i % 50));
+            periods.add(period((long) i + 1, periodPark, 2017 + random.nextInt(10), 1 + random.nextInt(12), random));
+        }
+
+        financialService = new FinancialService(
+                stub(FinancialRepository.class, Map.of(
+                        "findById", args -> Optional.of(period),
+                        "findAllWithPark", args -> periods
+                )),
+                stub(ParkRepository.class, Map.of()),
+                stub(FuncionarioRepository.class, Map.of()),
+                stub(ClientRepository.class, Map.of()),
+                stub(ServiceEntryRepository.class, Map.of(
+                        "findWithLeaderByFinancialIdIn", args -> services,
+                        "fetchHelpers", args -> services
+                )),
+                stub(PaymentEntryRepository.class, Map.of("sumAmountsByFinancialIdIn", args -> payments)),
+                null,
+                null,
+                null
+        );
+    }
+
+    @Benchmark
+    public FinancialService.FinancialSummary calculateSummary() {
+        return financialService.calculateSummary(PERIOD_ID);
+    }
+
+    @Benchmark
+    public FinancialService.CarRentalSummary summarizeCarRental() {
+        return financialService.summarizeCarRental(null);
+    }
+
+    private static FinancialModel period(Long id, ParkModel park, int year, int month, Random random) {
+        FinancialModel period = new FinancialModel();
+        period.setId(id);
+        period.setPark(park);
+        period.setYear(year);
+        period.setMonth(month);
+        period.setJvaPricePerMeter(money(random, 20, 40));
+        period.setLeaderPricePerMeter(money(random, 5, 10));
+        period.setTaxRate(new BigDecimal("0.06"));
+        period.setCarRentalValue(money(random, 0, 3000));
+        return period;
+    }
+
+    private static BigDecimal money(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100 + 1), 2);
+    }
+
+    private record PaymentTotals(Long financialId, PaymentCategory category, Long paymentCount, BigDecimal total)
+            implements PaymentEntryRepository.PaymentTotals {
+        @Override
+        public Long getFinancialId() {
+            return financialId;
+        }
+
+        @Override
+        public PaymentCategory getCategory() {
+            return category;
+        }
+
+        @Override
+        public Long getPaymentCount() {
+            return paymentCount;
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            return total;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
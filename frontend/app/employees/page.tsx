@@ -55,7 +55,9 @@ function parseOptionalNumber(value: string): number | undefined {
 export default function EmployeesPage() {
   const { token, isCheckingAuth, logout } = useAuthGuard()
   const [employees, setEmployees] = useState<Employee[]>([])
+  const [employeesCursor, setEmployeesCursor] = useState<string | null>(null)
   const [loading, setLoading] = useState(true)
+  const [loadingMore, setLoadingMore] = useState(false)
   const [error, setError] = useState<string | null>(null)
   const [message, setMessage] = useState<string | null>(null)
 
@@ -69,8 +71,9 @@ export default function EmployeesPage() {
       try {
         setLoading(true)
         setError(null)
-        const fetched = await getEmployees(token)
-        setEmployees(fetched)
+        const page = await getEmployees(token)
+        setEmployees(page.items)
+        setEmployeesCursor(page.nextCursor)
       } catch (err) {
         if (err instanceof ApiError) setError(err.message)
         else setError("Nao foi possivel carregar funcionarios.")
@@ -81,6 +84,22 @@ export default function EmployeesPage() {
     [token]
   )
 
+  const loadMoreEmployees = async () => {
+    if (!token || !employeesCursor) return
+    try {
+      setLoadingMore(true)
+      setError(null)
+      const page = await getEmployees(token, undefined, { cursor: employeesCursor })
+      setEmployees((previous) => [...previous, ...page.items])
+      setEmployeesCursor(page.nextCursor)
+    } catch (err) {
+      if (err instanceof ApiError) setError(err.message)
+      else setError("Nao foi possivel carregar mais funcionarios.")
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   useEffect(() => {
     if (!token) return
     loadEmployees()
@@ -338,6 +357,11 @@ export default function EmployeesPage() {
                     )}
                   </div>
                 ))}
+                {employeesCursor && (
+                  <Button variant="outline" className="w-full" onClick={loadMoreEmployees} disabled={loadingMore}>
+                    {loadingMore ? "Carregando..." : "Carregar mais"}
+                  </Button>
+                )}
               </div>
             )}
           </CardContent>
@@ -100,6 +100,40 @@ const STATUS_LABELS: Record<FinancialStatus, string> = {
   CLOSED: "Fechada",
 }
 
+type PagedList = "parks" | "periods" | "services" | "payments" | "leaders" | "helpers"
+
+function emptyCursors(): Record<PagedList, string | null> {
+  return { parks: null, periods: null, services: null, payments: null, leaders: null, helpers: null }
+}
+
+function LoadMore({
+  cursor,
+  loading,
+  onClick,
+  label,
+  compact = false,
+}: {
+  cursor: string | null
+  loading: boolean
+  onClick: () => void
+  label: string
+  compact?: boolean
+}) {
+  if (!cursor) return null
+  if (compact) {
+    return (
+      <button type="button" className="text-xs text-muted-foreground underline" onClick={onClick} disabled={loading}>
+        {loading ? "Carregando..." : label}
+      </button>
+    )
+  }
+  return (
+    <Button type="button" variant="outline" className="w-full" onClick={onClick} disabled={loading}>
+      {loading ? "Carregando..." : label}
+    </Button>
+  )
+}
+
 export default function FinancialPage() {
   const { token, isCheckingAuth, logout } = useAuthGuard()
   const [parks, setParks] = useState<Park[]>([])
@@ -110,6 +144,8 @@ export default function FinancialPage() {
   const [leaders, setLeaders] = useState<Employee[]>([])
   const [helpers, setHelpers] = useState<Employee[]>([])
   const [carRental, setCarRental] = useState<CarRentalSummary | null>(null)
+  const [cursors, setCursors] = useState(emptyCursors())
+  const [loadingMore, setLoadingMore] = useState<PagedList | null>(null)
   const [selectedParkId, setSelectedParkId] = useState("")
   const [selectedPeriodId, setSelectedPeriodId] = useState("")
   const [loading, setLoading] = useState(true)
@@ -214,8 +250,10 @@ export default function FinancialPage() {
     () => async () => {
       if (!token) return
 
-      const fetchedParks = await getParks(token)
+      const page = await getParks(token)
+      const fetchedParks = page.items
       setParks(fetchedParks)
+      setCursors((prev) => ({ ...prev, parks: page.nextCursor }))
 
       if (fetchedParks.length > 0 && !selectedParkId) {
         setSelectedParkId(String(fetchedParks[0].id))
@@ -231,8 +269,9 @@ export default function FinancialPage() {
         getEmployees(token, { role: "LEADER", onlyActive: true }),
         getEmployees(token, { role: "ASSEMBLER", onlyActive: true }),
       ])
-      setLeaders(fetchedLeaders)
-      setHelpers(fetchedHelpers)
+      setLeaders(fetchedLeaders.items)
+      setHelpers(fetchedHelpers.items)
+      setCursors((prev) => ({ ...prev, leaders: fetchedLeaders.nextCursor, helpers: fetchedHelpers.nextCursor }))
     },
     [token]
   )
@@ -241,12 +280,14 @@ export default function FinancialPage() {
     () => async (parkId: number) => {
       if (!token) return
 
-      const [fetchedPeriods, rentalSummary] = await Promise.all([
+      const [periodPage, rentalSummary] = await Promise.all([
         getPeriods(token, parkId),
         getCarRentalSummary(token, parkId),
       ])
+      const fetchedPeriods = periodPage.items
 
       setPeriods(fetchedPeriods)
+      setCursors((prev) => ({ ...prev, periods: periodPage.nextCursor }))
       setCarRental(rentalSummary)
 
       if (fetchedPeriods.length > 0) {
@@ -271,12 +312,56 @@ export default function FinancialPage() {
       ])
 
       setSummary(fetchedSummary)
-      setServices(fetchedServices)
-      setPayments(fetchedPayments)
+      setServices(fetchedServices.items)
+      setPayments(fetchedPayments.items)
+      setCursors((prev) => ({ ...prev, services: fetchedServices.nextCursor, payments: fetchedPayments.nextCursor }))
     },
     [token]
   )
 
+  // Proxima pagina de uma lista, anexada ao que ja esta na tela
+  const loadMore = async (list: PagedList) => {
+    const cursor = cursors[list]
+    if (!token || !cursor) return
+
+    try {
+      setLoadingMore(list)
+      setError(null)
+      const page = { cursor }
+      let nextCursor: string | null = null
+      if (list === "parks") {
+        const result = await getParks(token, undefined, page)
+        setParks((prev) => [...prev, ...result.items])
+        nextCursor = result.nextCursor
+      } else if (list === "periods") {
+        const result = await getPeriods(token, Number(selectedParkId), page)
+        setPeriods((prev) => [...prev, ...result.items])
+        nextCursor = result.nextCursor
+      } else if (list === "services") {
+        const result = await getPeriodServices(token, Number(selectedPeriodId), page)
+        setServices((prev) => [...prev, ...result.items])
+        nextCursor = result.nextCursor
+      } else if (list === "payments") {
+        const result = await getPeriodPayments(token, Number(selectedPeriodId), page)
+        setPayments((prev) => [...prev, ...result.items])
+        nextCursor = result.nextCursor
+      } else {
+        const role = list === "leaders" ? "LEADER" : "ASSEMBLER"
+        const result = await getEmployees(token, { role, onlyActive: true }, page)
+        const append = (prev: Employee[]) => [...prev, ...result.items]
+        if (list === "leaders") setLeaders(append)
+        else setHelpers(append)
+        nextCursor = result.nextCursor
+      }
+      setCursors((prev) => ({ ...prev, [list]: nextCursor }))
+    } catch (err) {
+      if (err instanceof ApiError) setError(err.message)
+      else setError("Nao foi possivel carregar mais registros.")
+    } finally {
+      setLoadingMore(null)
+    }
+  }
+
   const reloadAll = useMemo(
     () => async () => {
       if (!token) return
@@ -302,6 +387,7 @@ export default function FinancialPage() {
           setSummary(null)
           setServices([])
           setPayments([])
+          setCursors((prev) => ({ ...prev, services: null, payments: null }))
         }
       } catch (err) {
         if (err instanceof ApiError) {
@@ -330,6 +416,7 @@ export default function FinancialPage() {
       setSummary(null)
       setServices([])
       setPayments([])
+      setCursors((prev) => ({ ...prev, periods: null, services: null, payments: null }))
       setCarRental(null)
       return
     }
@@ -353,6 +440,7 @@ export default function FinancialPage() {
       setSummary(null)
       setServices([])
       setPayments([])
+      setCursors((prev) => ({ ...prev, services: null, payments: null }))
       return
     }
 
@@ -571,6 +659,7 @@ export default function FinancialPage() {
       setSummary(null)
       setServices([])
       setPayments([])
+      setCursors((prev) => ({ ...prev, services: null, payments: null }))
       setMessage("Competencia excluida com sucesso.")
       await loadPeriods(Number(selectedParkId))
     } catch (err) {
@@ -805,6 +894,13 @@ export default function FinancialPage() {
                 </option>
               ))}
             </select>
+            <LoadMore
+              cursor={cursors.parks}
+              loading={loadingMore === "parks"}
+              onClick={() => loadMore("parks")}
+              label="Carregar mais parques"
+              compact
+            />
           </div>
           <div className="space-y-2">
             <Label htmlFor="period-select">Competencia</Label>
@@ -821,6 +917,13 @@ export default function FinancialPage() {
                 </option>
               ))}
             </select>
+            <LoadMore
+              cursor={cursors.periods}
+              loading={loadingMore === "periods"}
+              onClick={() => loadMore("periods")}
+              label="Carregar competencias anteriores"
+              compact
+            />
           </div>
         </div>
 
@@ -1169,6 +1272,13 @@ export default function FinancialPage() {
                       </option>
                     ))}
                   </select>
+                  <LoadMore
+                    cursor={cursors.leaders}
+                    loading={loadingMore === "leaders"}
+                    onClick={() => loadMore("leaders")}
+                    label="Carregar mais lideres"
+                    compact
+                  />
                 </div>
                 <div className="grid gap-3 grid-cols-2">
                   <div className="space-y-1">
@@ -1316,6 +1426,13 @@ export default function FinancialPage() {
                         </option>
                       ))}
                     </select>
+                    <LoadMore
+                      cursor={paymentForm.category === "EMPLOYEE_LEADER" ? cursors.leaders : cursors.helpers}
+                      loading={loadingMore === "leaders" || loadingMore === "helpers"}
+                      onClick={() => loadMore(paymentForm.category === "EMPLOYEE_LEADER" ? "leaders" : "helpers")}
+                      label="Carregar mais funcionarios"
+                      compact
+                    />
                   </div>
                 )}
                 <div className="space-y-1">
@@ -1443,6 +1560,12 @@ export default function FinancialPage() {
                       )}
                     </div>
                   ))}
+                  <LoadMore
+                    cursor={cursors.services}
+                    loading={loadingMore === "services"}
+                    onClick={() => loadMore("services")}
+                    label="Carregar mais servicos"
+                  />
                 </div>
               )}
             </CardContent>
@@ -1537,6 +1660,12 @@ export default function FinancialPage() {
                       )}
                     </div>
                   ))}
+                  <LoadMore
+                    cursor={cursors.payments}
+                    loading={loadingMore === "payments"}
+                    onClick={() => loadMore("payments")}
+                    label="Carregar mais pagamentos"
+                  />
                 </div>
               )}
             </CardContent>
@@ -56,7 +56,10 @@ function formatFileSize(size: number) {
 export default function ParksPage() {
   const { token, isCheckingAuth, logout } = useAuthGuard()
   const [clients, setClients] = useState<Client[]>([])
+  const [clientsCursor, setClientsCursor] = useState<string | null>(null)
   const [parks, setParks] = useState<Park[]>([])
+  const [parksCursor, setParksCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState<"clients" | "parks" | null>(null)
   const [overviews, setOverviews] = useState<Record<number, ParkFinancialOverview>>({})
   const [mediaByPark, setMediaByPark] = useState<Record<number, ParkMedia[]>>({})
   const [selectedMediaFilesByPark, setSelectedMediaFilesByPark] = useState<Record<number, File[]>>({})
@@ -85,6 +88,37 @@ export default function ParksPage() {
   const [editingPark, setEditingPark] = useState<Park | null>(null)
   const [editParkForm, setEditParkForm] = useState({ name: "", city: "", state: "", clientCnpj: "" })
 
+  const fetchParkDetails = useMemo(
+    () => async (fetchedParks: Park[]): Promise<{
+      overviewMap: Record<number, ParkFinancialOverview>
+      mediaMap: Record<number, ParkMedia[]>
+    }> => {
+      if (!token) return { overviewMap: {}, mediaMap: {} }
+
+      const [fetchedOverviews, fetchedMediaByPark] = await Promise.all([
+        Promise.all(fetchedParks.map((park) => getParkOverview(token, park.id))),
+        Promise.all(
+          fetchedParks.map(async (park) => ({
+            parkId: park.id,
+            media: await getParkMedia(token, park.id),
+          }))
+        ),
+      ])
+
+      const overviewMap: Record<number, ParkFinancialOverview> = {}
+      for (const overview of fetchedOverviews) {
+        overviewMap[overview.parkId] = overview
+      }
+
+      const mediaMap: Record<number, ParkMedia[]> = {}
+      for (const entry of fetchedMediaByPark) {
+        mediaMap[entry.parkId] = entry.media
+      }
+      return { overviewMap, mediaMap }
+    },
+    [token]
+  )
+
   const loadData = useMemo(
     () => async () => {
       if (!token) return
@@ -94,39 +128,22 @@ export default function ParksPage() {
         setError(null)
         setMessage(null)
 
-        const [fetchedClients, fetchedParks] = await Promise.all([
+        const [clientPage, parkPage] = await Promise.all([
           getClients(token),
           getParks(token),
         ])
+        const { overviewMap, mediaMap } = await fetchParkDetails(parkPage.items)
 
-        const [fetchedOverviews, fetchedMediaByPark] = await Promise.all([
-          Promise.all(fetchedParks.map((park) => getParkOverview(token, park.id))),
-          Promise.all(
-            fetchedParks.map(async (park) => ({
-              parkId: park.id,
-              media: await getParkMedia(token, park.id),
-            }))
-          ),
-        ])
-
-        const overviewMap: Record<number, ParkFinancialOverview> = {}
-        for (const overview of fetchedOverviews) {
-          overviewMap[overview.parkId] = overview
-        }
-
-        const mediaMap: Record<number, ParkMedia[]> = {}
-        for (const entry of fetchedMediaByPark) {
-          mediaMap[entry.parkId] = entry.media
-        }
-
-        setClients(fetchedClients)
-        setParks(fetchedParks)
+        setClients(clientPage.items)
+        setClientsCursor(clientPage.nextCursor)
+        setParks(parkPage.items)
+        setParksCursor(parkPage.nextCursor)
         setOverviews(overviewMap)
         setMediaByPark(mediaMap)
         setSelectedMediaFilesByPark({})
 
-        if (!parkForm.clientCnpj && fetchedClients.length > 0) {
-          setParkForm((prev) => ({ ...prev, clientCnpj: fetchedClients[0].cnpj }))
+        if (!parkForm.clientCnpj && clientPage.items.length > 0) {
+          setParkForm((prev) => ({ ...prev, clientCnpj: clientPage.items[0].cnpj }))
         }
       } catch (err) {
         if (err instanceof ApiError) {
@@ -138,9 +155,44 @@ export default function ParksPage() {
         setLoading(false)
       }
     },
-    [token, parkForm.clientCnpj]
+    [token, parkForm.clientCnpj, fetchParkDetails]
   )
 
+  const loadMoreClients = async () => {
+    if (!token || !clientsCursor) return
+    try {
+      setLoadingMore("clients")
+      setError(null)
+      const page = await getClients(token, { cursor: clientsCursor })
+      setClients((prev) => [...prev, ...page.items])
+      setClientsCursor(page.nextCursor)
+    } catch (err) {
+      if (err instanceof ApiError) setError(err.message)
+      else setError("Nao foi possivel carregar mais clientes.")
+    } finally {
+      setLoadingMore(null)
+    }
+  }
+
+  const loadMoreParks = async () => {
+    if (!token || !parksCursor) return
+    try {
+      setLoadingMore("parks")
+      setError(null)
+      const page = await getParks(token, undefined, { cursor: parksCursor })
+      const { overviewMap, mediaMap } = await fetchParkDetails(page.items)
+      setParks((prev) => [...prev, ...page.items])
+      setParksCursor(page.nextCursor)
+      setOverviews((prev) => ({ ...prev, ...overviewMap }))
+      setMediaByPark((prev) => ({ ...prev, ...mediaMap }))
+    } catch (err) {
+      if (err instanceof ApiError) setError(err.message)
+      else setError("Nao foi possivel carregar mais parques.")
+    } finally {
+      setLoadingMore(null)
+    }
+  }
+
   useEffect(() => {
     if (!token) return
     loadData()
@@ -547,6 +599,16 @@ export default function ParksPage() {
                       )}
                     </div>
                   ))}
+                  {clientsCursor && (
+                    <Button
+                      variant="outline"
+                      className="w-full"
+                      onClick={loadMoreClients}
+                      disabled={loadingMore === "clients"}
+                    >
+                      {loadingMore === "clients" ? "Carregando..." : "Carregar mais clientes"}
+                    </Button>
+                  )}
                 </div>
               )}
             </CardContent>
@@ -613,6 +675,16 @@ export default function ParksPage() {
                       </option>
                     ))}
                   </select>
+                  {clientsCursor && (
+                    <button
+                      type="button"
+                      className="text-xs text-muted-foreground underline"
+                      onClick={loadMoreClients}
+                      disabled={loadingMore === "clients"}
+                    >
+                      Carregar mais clientes
+                    </button>
+                  )}
                 </div>
                 <Button type="submit" className="gap-2">
                   <Plus className="h-4 w-4" />
@@ -808,6 +880,16 @@ export default function ParksPage() {
                     </div>
                   )
                 })}
+                {parksCursor && (
+                  <Button
+                    variant="outline"
+                    className="w-full"
+                    onClick={loadMoreParks}
+                    disabled={loadingMore === "parks"}
+                  >
+                    {loadingMore === "parks" ? "Carregando..." : "Carregar mais parques"}
+                  </Button>
+                )}
               </div>
             )}
           </CardContent>
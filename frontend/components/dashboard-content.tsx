@@ -46,6 +46,13 @@ type MonthlyProfitItem = {
   profit: number
 }
 
+// Resumo sobre a primeira pagina (limite maximo do backend); com mais registros o total aparece como "N+"
+const DASHBOARD_PAGE_LIMIT = 200
+
+function formatCount(count: number, hasMore: boolean) {
+  return hasMore ? `${count}+` : String(count)
+}
+
 function formatCurrency(value: number) {
   return new Intl.NumberFormat("pt-BR", {
     style: "currency",
@@ -79,7 +86,12 @@ export function DashboardContent() {
         setIsLoadingData(true)
         setLoadError(null)
 
-        const [parks, clients] = await Promise.all([getParks(token), getClients(token)])
+        const [parkPage, clientPage] = await Promise.all([
+          getParks(token, undefined, { limit: DASHBOARD_PAGE_LIMIT }),
+          getClients(token, { limit: DASHBOARD_PAGE_LIMIT }),
+        ])
+        const parks = parkPage.items
+        const clients = clientPage.items
         const overviews = await Promise.all(
           parks.map((park) => getParkOverview(token, park.id))
         )
@@ -113,13 +125,13 @@ export function DashboardContent() {
           {
             title: "Projetos Ativos",
             value: String(totalOpenProjects),
-            change: `${parks.length} parques cadastrados`,
+            change: `${formatCount(parks.length, parkPage.nextCursor !== null)} parques cadastrados`,
             trend: "up",
             icon: FileText,
           },
           {
             title: "Clientes",
-            value: String(clients.length),
+            value: formatCount(clients.length, clientPage.nextCursor !== null),
             change: `${clients.filter((client) => client.email).length} com e-mail`,
             trend: "up",
             icon: Users,
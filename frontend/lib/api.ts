@@ -39,6 +39,25 @@ async function request<T>(path: string, options: RequestOptions = {}): Promise<T
   return (await response.json()) as T
 }
 
+export type CursorPage<T> = {
+  items: T[]
+  nextCursor: string | null
+}
+
+export type PageRequest = {
+  cursor?: string | null
+  limit?: number
+}
+
+// Listas do backend sao paginadas por cursor; quem chama guarda o nextCursor e pede a proxima pagina sob demanda
+function pagedPath(path: string, page?: PageRequest): string {
+  const params = new URLSearchParams()
+  if (page?.limit) params.set("limit", String(page.limit))
+  if (page?.cursor) params.set("cursor", page.cursor)
+  if (params.size === 0) return path
+  return `${path}${path.includes("?") ? "&" : "?"}${params.toString()}`
+}
+
 async function parseApiError(response: Response): Promise<ApiError> {
   let message = "Erro inesperado ao processar requisicao."
   const clonedResponse = response.clone()
@@ -104,6 +123,18 @@ export type ParkMedia = {
   contentType: string
   fileSize: number
   uploadedAt: string
+  capturedAt: string | null
+  width: number | null
+  height: number | null
+  durationMs: number | null
+  metadataStatus: "PENDING" | "EXTRACTED" | "FAILED"
+}
+
+export type ParkMediaUploadResult = {
+  fileName: string | null
+  uploaded: boolean
+  media: ParkMedia | null
+  error: string | null
 }
 
 export type JobRole = "ADMINISTRATOR" | "LEADER" | "ASSEMBLER"
@@ -126,6 +157,12 @@ export type Employee = {
   } | null
 }
 
+export type EmployeeRef = {
+  id: number
+  name: string
+  role: JobRole
+}
+
 export type FinancialStatus = "OPEN" | "CLOSED"
 
 export type ParkPeriodSummary = {
@@ -191,6 +228,7 @@ export type FinancialPeriod = {
   carRentalValue: number
   status: FinancialStatus
   park: Park
+  administrator?: EmployeeRef | null
 }
 
 export type FinancialSummary = {
@@ -234,7 +272,7 @@ export type PaymentEntry = {
   amount: number
   category: PaymentCategory
   notes?: string | null
-  employee?: Employee | null
+  employee?: EmployeeRef | null
   client?: Client | null
   hasReceipt?: boolean
   receiptFileName?: string | null
@@ -242,13 +280,30 @@ export type PaymentEntry = {
   receiptSize?: number | null
 }
 
+export type LedgerEntry = {
+  paymentId: number
+  periodId: number
+  year: number
+  month: number
+  paymentDate: string
+  name: string
+  invoiceNumber?: string | null
+  category: PaymentCategory
+  amount: number
+  employeeId?: number | null
+  employeeName?: string | null
+  clientCnpj?: string | null
+  clientName?: string | null
+  hasReceipt: boolean
+}
+
 export type ServiceType = "ASSEMBLY" | "DISASSEMBLY" | "MAINTENANCE" | "OTHER"
 
 export type ServiceEntry = {
   id: number
   serviceType: ServiceType
   teamType: string
-  leader?: Employee | null
+  leader?: EmployeeRef | null
   meters: number
   unitPrice: number
   grossValue: number
@@ -256,6 +311,70 @@ export type ServiceEntry = {
   startDate?: string | null
   endDate?: string | null
   days?: number | null
+  helpers: {
+    id: number
+    employee: EmployeeRef
+    dailyRateUsed: number
+    daysUsed: number
+    totalCost: number
+  }[]
+}
+
+export type SearchResultType = "CLIENT" | "PARK" | "EMPLOYEE" | "PAYMENT"
+
+export type SearchHit = {
+  type: SearchResultType
+  id: string
+  title: string
+  detail: string | null
+  score: number
+  parkId: number | null
+  periodId: number | null
+}
+
+export async function search(
+  token: string,
+  q: string,
+  options?: { types?: SearchResultType[]; limit?: number }
+): Promise<SearchHit[]> {
+  const params = new URLSearchParams({ q })
+  if (options?.types?.length) params.set("types", options.types.join(","))
+  if (options?.limit) params.set("limit", String(options.limit))
+  return request<SearchHit[]>(`/search?${params.toString()}`, { token })
+}
+
+export type BatchRead = {
+  resource:
+    | "me"
+    | "clients"
+    | "parks"
+    | "employees"
+    | "periods"
+    | "period"
+    | "periodSummary"
+    | "periodServices"
+    | "periodPayments"
+    | "parkOverview"
+    | "carRentalSummary"
+    | "storageUsage"
+  params?: Record<string, string>
+}
+
+export type BatchReadResult<T = unknown> = {
+  status: number
+  body: T | null
+  message: string | null
+}
+
+export async function batchRead(
+  token: string,
+  reads: Record<string, BatchRead>
+): Promise<Record<string, BatchReadResult>> {
+  return request<Record<string, BatchReadResult>>("/batch", {
+    method: "POST",
+    token,
+    body: reads,
+  })
 }
 
 export async function loginAdmin(email: string, password: string): Promise<LoginResponse> {
@@ -271,13 +390,14 @@ export async function getCurrentAdmin(token: string): Promise<AuthUser> {
 
 export async function getEmployees(
   token: string,
-  options?: { role?: JobRole; onlyActive?: boolean }
-): Promise<Employee[]> {
+  options?: { role?: JobRole; onlyActive?: boolean },
+  page?: PageRequest
+): Promise<CursorPage<Employee>> {
   const params = new URLSearchParams()
   if (options?.role) params.set("role", options.role)
   if (options?.onlyActive !== undefined) params.set("onlyActive", String(options.onlyActive))
   const query = params.size > 0 ? `?${params.toString()}` : ""
-  return request<Employee[]>(`/funcionarios${query}`, { token })
+  return request<CursorPage<Employee>>(pagedPath(`/funcionarios${query}`, page), { token })
 }
 
 export async function getEmployeeById(token: string, employeeId: number): Promise<Employee> {
@@ -327,8 +447,8 @@ export async function updateEmployee(
   })
 }
 
-export async function getClients(token: string): Promise<Client[]> {
-  return request<Client[]>("/clientes", { token })
+export async function getClients(token: string, page?: PageRequest): Promise<CursorPage<Client>> {
+  return request<CursorPage<Client>>(pagedPath("/clientes", page), { token })
 }
 
 export async function createClient(
@@ -361,9 +481,13 @@ export async function deleteClient(token: string, cnpj: string): Promise<void> {
   })
 }
 
-export async function getParks(token: string, clientCnpj?: string): Promise<Park[]> {
+export async function getParks(
+  token: string,
+  clientCnpj?: string,
+  page?: PageRequest
+): Promise<CursorPage<Park>> {
   const query = clientCnpj ? `?clientCnpj=${encodeURIComponent(clientCnpj)}` : ""
-  return request<Park[]>(`/parks${query}`, { token })
+  return request<CursorPage<Park>>(pagedPath(`/parks${query}`, page), { token })
 }
 
 export async function createPark(
@@ -396,15 +520,32 @@ export async function deletePark(token: string, parkId: number): Promise<void> {
   })
 }
 
-export async function getParkMedia(token: string, parkId: number): Promise<ParkMedia[]> {
-  return request<ParkMedia[]>(`/parks/${parkId}/media`, { token })
+export async function getParkMedia(
+  token: string,
+  parkId: number,
+  options?: {
+    type?: "image" | "video"
+    capturedFrom?: string
+    capturedTo?: string
+    sort?: "uploadedAt" | "capturedAt"
+    order?: "asc" | "desc"
+  }
+): Promise<ParkMedia[]> {
+  const params = new URLSearchParams()
+  if (options?.type) params.set("type", options.type)
+  if (options?.capturedFrom) params.set("capturedFrom", options.capturedFrom)
+  if (options?.capturedTo) params.set("capturedTo", options.capturedTo)
+  if (options?.sort) params.set("sort", options.sort)
+  if (options?.order) params.set("order", options.order)
+  const query = params.size > 0 ? `?${params.toString()}` : ""
+  return request<ParkMedia[]>(`/parks/${parkId}/media${query}`, { token })
 }
 
 export async function uploadParkMedia(
   token: string,
   parkId: number,
   files: File[]
-): Promise<ParkMedia[]> {
+): Promise<ParkMediaUploadResult[]> {
   const formData = new FormData()
   for (const file of files) {
     formData.append("files", file)
@@ -419,11 +560,22 @@ export async function uploadParkMedia(
     cache: "no-store",
   })
 
+  if (response.status === 400) {
+    // Nenhum arquivo gravado: a API devolve o resultado de cada arquivo
+    const payload = await response.clone().json().catch(() => null)
+    if (Array.isArray(payload)) {
+      const errors = (payload as ParkMediaUploadResult[])
+        .map((result) => `${result.fileName}: ${result.error}`)
+        .join("; ")
+      throw new ApiError(errors || "Nenhum arquivo foi enviado.", response.status)
+    }
+  }
+
   if (!response.ok) {
     throw await parseApiError(response)
   }
 
-  return (await response.json()) as ParkMedia[]
+  return (await response.json()) as ParkMediaUploadResult[]
 }
 
 export async function downloadParkMedia(
@@ -464,9 +616,13 @@ export async function getParkOverview(token: string, parkId: number): Promise<Pa
   return request<ParkFinancialOverview>(`/financial/parks/${parkId}/overview`, { token })
 }
 
-export async function getPeriods(token: string, parkId?: number): Promise<FinancialPeriod[]> {
+export async function getPeriods(
+  token: string,
+  parkId?: number,
+  page?: PageRequest
+): Promise<CursorPage<FinancialPeriod>> {
   const query = parkId ? `?parkId=${parkId}` : ""
-  return request<FinancialPeriod[]>(`/financial/periods${query}`, { token })
+  return request<CursorPage<FinancialPeriod>>(pagedPath(`/financial/periods${query}`, page), { token })
 }
 
 export async function getPeriod(token: string, periodId: number): Promise<FinancialPeriod> {
@@ -521,17 +677,101 @@ export async function getPeriodSummary(token: string, periodId: number): Promise
   return request<FinancialSummary>(`/financial/periods/${periodId}/summary`, { token })
 }
 
+export type SummaryEvent =
+  | { type: "summary"; summary: FinancialSummary }
+  | { type: "removed"; periodId: number; parkId: number }
+
+// EventSource nao envia o header Authorization, entao o stream SSE e lido via fetch
+async function streamSummaryEvents(
+  path: string,
+  token: string,
+  onEvent: (event: SummaryEvent) => void,
+  signal: AbortSignal
+): Promise<void> {
+  const response = await fetch(`${API_BASE_URL}${path}`, {
+    headers: { Authorization: `Bearer ${token}`, Accept: "text/event-stream" },
+    cache: "no-store",
+    signal,
+  })
+  if (!response.ok || !response.body) {
+    throw await parseApiError(response)
+  }
+
+  const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+  let buffer = ""
+  for (;;) {
+    const { value, done } = await reader.read()
+    if (done) return
+    buffer += value
+    let boundary = buffer.indexOf("\n\n")
+    while (boundary >= 0) {
+      const block = buffer.slice(0, boundary)
+      buffer = buffer.slice(boundary + 2)
+      boundary = buffer.indexOf("\n\n")
+
+      let name = "message"
+      const data: string[] = []
+      for (const line of block.split("\n")) {
+        if (line.startsWith("event:")) name = line.slice(6).trim()
+        else if (line.startsWith("data:")) data.push(line.slice(5).trimStart())
+      }
+      if (data.length === 0) continue
+      const payload = JSON.parse(data.join("\n"))
+      if (name === "summary") onEvent({ type: "summary", summary: payload as FinancialSummary })
+      else if (name === "removed") onEvent({ type: "removed", ...payload })
+    }
+  }
+}
+
+export function subscribePeriodSummary(
+  token: string,
+  periodId: number,
+  onEvent: (event: SummaryEvent) => void,
+  signal: AbortSignal
+): Promise<void> {
+  return streamSummaryEvents(`/financial/periods/${periodId}/summary/stream`, token, onEvent, signal)
+}
+
+export function subscribeParkSummaries(
+  token: string,
+  parkId: number,
+  onEvent: (event: SummaryEvent) => void,
+  signal: AbortSignal
+): Promise<void> {
+  return streamSummaryEvents(`/financial/parks/${parkId}/summaries/stream`, token, onEvent, signal)
+}
+
 export async function getCarRentalSummary(token: string, parkId?: number): Promise<CarRentalSummary> {
   const query = parkId ? `?parkId=${parkId}` : ""
   return request<CarRentalSummary>(`/financial/car-rentals/summary${query}`, { token })
 }
 
-export async function getPeriodPayments(token: string, periodId: number): Promise<PaymentEntry[]> {
-  return request<PaymentEntry[]>(`/financial/periods/${periodId}/payments`, { token })
+export async function getParkLedger(
+  token: string,
+  parkId: number,
+  options?: { paidFrom?: string; paidTo?: string }
+): Promise<LedgerEntry[]> {
+  const params = new URLSearchParams()
+  if (options?.paidFrom) params.set("paidFrom", options.paidFrom)
+  if (options?.paidTo) params.set("paidTo", options.paidTo)
+  const query = params.toString() ? `?${params.toString()}` : ""
+  return request<LedgerEntry[]>(`/financial/parks/${parkId}/ledger${query}`, { token })
+}
+
+export async function getPeriodPayments(
+  token: string,
+  periodId: number,
+  page?: PageRequest
+): Promise<CursorPage<PaymentEntry>> {
+  return request<CursorPage<PaymentEntry>>(pagedPath(`/financial/periods/${periodId}/payments`, page), { token })
 }
 
-export async function getPeriodServices(token: string, periodId: number): Promise<ServiceEntry[]> {
-  return request<ServiceEntry[]>(`/financial/periods/${periodId}/services`, { token })
+export async function getPeriodServices(
+  token: string,
+  periodId: number,
+  page?: PageRequest
+): Promise<CursorPage<ServiceEntry>> {
+  return request<CursorPage<ServiceEntry>>(pagedPath(`/financial/periods/${periodId}/services`, page), { token })
 }
 
 export async function addPayment(